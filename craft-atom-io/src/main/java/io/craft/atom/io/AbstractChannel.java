@@ -3,6 +3,8 @@ package io.craft.atom.io;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -19,12 +21,16 @@ import lombok.ToString;
 abstract public class AbstractChannel {
 	
 	
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<AbstractChannel, AtomicReferenceArray> VALUES_UPDATER = AtomicReferenceFieldUpdater.newUpdater(AbstractChannel.class, AtomicReferenceArray.class, "attributeValues");
 	private static final AtomicLong ID_GENERATOR = new AtomicLong(0);
+	private static final Object     MOVED        = new Object()     ;
 	
 	
-	@Getter protected long                  id                                                  ;
-	        protected Map<Object, Object>   attributes = new ConcurrentHashMap<Object, Object>();
-	        protected volatile ChannelState state      = ChannelState.OPEN                      ;
+	@Getter protected          long                         id                                ;
+	        protected volatile Map<Object, Object>          attributes                        ;
+	        protected volatile AtomicReferenceArray<Object> attributeValues                   ;
+	        protected volatile ChannelState                 state           = ChannelState.OPEN;
 	
 	
 	// ~ -----------------------------------------------------------------------------------------------------------
@@ -75,7 +81,8 @@ abstract public class AbstractChannel {
             throw new IllegalArgumentException("key can not be null");
         }
 
-        return attributes.get(key);
+		Map<Object, Object> map = attributes;
+        return (map == null ? null : map.get(key));
 	}
 	
 	public Object setAttribute(Object key, Object value) {
@@ -83,7 +90,7 @@ abstract public class AbstractChannel {
 			throw new IllegalArgumentException("key & value can not be null");
         }
         
-        return attributes.put(key, value);
+        return attributes().put(key, value);
 	}
 	
 	public boolean containsAttribute(Object key) {
@@ -91,7 +98,8 @@ abstract public class AbstractChannel {
             throw new IllegalArgumentException("key can not be null");
         }
 		
-		return attributes.containsKey(key);
+		Map<Object, Object> map = attributes;
+		return (map != null && map.containsKey(key));
 	}
 	
 	public Object removeAttribute(Object key) {
@@ -99,7 +107,199 @@ abstract public class AbstractChannel {
             throw new IllegalArgumentException("key can not be null");
         }
 		
-		return attributes.remove(key);
+		Map<Object, Object> map = attributes;
+		return (map == null ? null : map.remove(key));
+	}
+	
+	/**
+	 * Returns the value of the typed attribute of this channel, it is an indexed array load rather than a hash lookup.
+	 * 
+	 * @param key
+	 *            the key of the attribute, can not be <tt>null</tt>
+	 * @return <tt>null</tt> if there is no attribute with the specified key
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getAttribute(AttributeKey<T> key) {
+		if (key == null) {
+			throw new IllegalArgumentException("key can not be null");
+		}
+		
+		int i = key.index();
+		for (;;) {
+			AtomicReferenceArray<Object> values = attributeValues;
+			if (values == null || i >= values.length()) {
+				return null;
+			}
+			
+			Object value = values.get(i);
+			if (value != MOVED) {
+				return (T) value;
+			}
+			awaitGrown(values);
+		}
+	}
+	
+	/**
+	 * Sets a typed attribute.
+	 * 
+	 * @param key
+	 *            the key of the attribute, can not be <tt>null</tt>
+	 * @param value
+	 *            the value of the attribute, can not be <tt>null</tt>
+	 * @return The old value of the attribute. <tt>null</tt> if it is new.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T setAttribute(AttributeKey<T> key, T value) {
+		if (key == null || value == null) {
+			throw new IllegalArgumentException("key & value can not be null");
+		}
+		
+		int i = key.index();
+		for (;;) {
+			AtomicReferenceArray<Object> values = attributeValues(key);
+			Object old = values.get(i);
+			if (old == MOVED) {
+				awaitGrown(values);
+			} else if (values.compareAndSet(i, old, value)) {
+				return (T) old;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the typed attribute to the update value if the current value is the expected value.
+	 * 
+	 * @param key
+	 *            the key of the attribute, can not be <tt>null</tt>
+	 * @param expect
+	 *            the expected value, <tt>null</tt> means the attribute is absent
+	 * @param update
+	 *            the new value, <tt>null</tt> means remove the attribute
+	 * @return <tt>true</tt> if successful
+	 */
+	public <T> boolean compareAndSetAttribute(AttributeKey<T> key, T expect, T update) {
+		if (key == null) {
+			throw new IllegalArgumentException("key can not be null");
+		}
+		
+		int i = key.index();
+		for (;;) {
+			AtomicReferenceArray<Object> values = attributeValues(key);
+			Object current = values.get(i);
+			if (current == MOVED) {
+				awaitGrown(values);
+			} else if (current != expect) {
+				return false;
+			} else if (values.compareAndSet(i, expect, update)) {
+				return true;
+			}
+		}
+	}
+	
+	/**
+	 * Returns <tt>true</tt> if this channel contains the typed attribute with the specified <tt>key</tt>.
+	 * 
+	 * @param key
+	 *            the key of the attribute, can not be <tt>null</tt>
+	 * @return <tt>true</tt> if contains a value for the specified key
+	 */
+	public boolean containsAttribute(AttributeKey<?> key) {
+		return getAttribute(key) != null;
+	}
+	
+	/**
+	 * Remove a typed attribute.
+	 * 
+	 * @param key
+	 *            the key of the attribute, can not be <tt>null</tt>
+	 * @return the previous value of the attribute, or <tt>null</tt> if there was no value.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T removeAttribute(AttributeKey<T> key) {
+		if (key == null) {
+			throw new IllegalArgumentException("key can not be null");
+		}
+		
+		int i = key.index();
+		for (;;) {
+			AtomicReferenceArray<Object> values = attributeValues;
+			if (values == null || i >= values.length()) {
+				return null;
+			}
+			
+			Object old = values.get(i);
+			if (old == MOVED) {
+				awaitGrown(values);
+			} else if (old == null || values.compareAndSet(i, old, null)) {
+				return (T) old;
+			}
+		}
+	}
+	
+	/**
+	 * Attribute value array is created on first update and grown when a key beyond its length is used.
+	 * Reads and updates are plain operations on the array without lock, only growing it is serialized on the array being replaced.
+	 * The grower marks each slot of the old array {@link #MOVED} as it copies the slot, an update that meets the mark 
+	 * waits for the new array and retries on it, so no update is lost while the array is copied.
+	 * 
+	 * @param key
+	 * @return the attribute value array which is long enough for the key
+	 */
+	private AtomicReferenceArray<Object> attributeValues(AttributeKey<?> key) {
+		int i = key.index();
+		for (;;) {
+			AtomicReferenceArray<Object> values = attributeValues;
+			if (values != null && i < values.length()) {
+				return values;
+			}
+			
+			AtomicReferenceArray<Object> grown = new AtomicReferenceArray<Object>(Math.max(i + 1, AttributeKey.size()));
+			if (values == null) {
+				if (VALUES_UPDATER.compareAndSet(this, null, grown)) {
+					return grown;
+				}
+				continue;
+			}
+			
+			synchronized (values) {
+				if (attributeValues != values) {
+					continue;
+				}
+				for (int j = 0; j < values.length(); j++) {
+					grown.set(j, values.getAndSet(j, MOVED));
+				}
+				attributeValues = grown;
+				return grown;
+			}
+		}
+	}
+	
+	/**
+	 * Wait for the grower which holds the monitor of the old array until the new array is published.
+	 * 
+	 * @param values the old array
+	 */
+	private void awaitGrown(AtomicReferenceArray<Object> values) {
+		synchronized (values) {}
+	}
+	
+	/**
+	 * Attribute map is created on first set, most channels never set an attribute.
+	 * 
+	 * @return the attribute map
+	 */
+	private Map<Object, Object> attributes() {
+		Map<Object, Object> map = attributes;
+		if (map == null) {
+			synchronized (this) {
+				map = attributes;
+				if (map == null) {
+					map = new ConcurrentHashMap<Object, Object>();
+					attributes = map;
+				}
+			}
+		}
+		return map;
 	}
 	
 }
@@ -1,5 +1,7 @@
 package io.craft.atom.io;
 
+import java.nio.ByteBuffer;
+
 import lombok.ToString;
 
 /**
@@ -31,4 +33,29 @@ abstract public class AbstractIoByteChannel extends AbstractIoChannel implements
 		super(minReadBufferSize, defaultReadBufferSize, maxReadBufferSize);
 	}
 	
+	/**
+	 * Write remaining bytes of the buffers to another peer of the channel as one logical message, 
+	 * the buffers are sent in order without concatenation, heap or direct buffers are both accepted.
+	 * <p>
+	 * Position of the buffers is not changed, but their content must not be modified until they are written.
+	 * 
+	 * @param bufs
+	 * @return <tt>true</tt> once data write successful.
+	 * @throws IllegalChannelStateException If channel state is not open.
+	 */
+	abstract public boolean write(ByteBuffer... bufs) throws IllegalChannelStateException;
+	
+	/**
+	 * Tells whether or not this channel is writable.
+	 * 
+	 * <p> A channel becomes unwritable when the bytes waiting to be flushed in it exceed the high water mark,
+	 * and becomes writable again once the bytes drop to the low water mark. 
+	 * Data written to an unwritable channel is still queued, the caller should back off to avoid unbounded memory usage.
+	 * 
+	 * @return <tt>true</tt> if, and only if, the write queue of this channel is not over the high water mark, a channel without water marks is always writable.
+	 */
+	public boolean isWritable() {
+		return true;
+	}
+	
 }
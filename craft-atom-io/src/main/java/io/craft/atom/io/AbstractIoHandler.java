@@ -12,7 +12,7 @@ import org.slf4j.LoggerFactory;
  * @author mindwind
  * @version 1.0, Feb 21, 2013
  */
-abstract public class AbstractIoHandler implements IoHandler {
+abstract public class AbstractIoHandler implements IoIdleHandler, IoWritabilityHandler {
 	
 	
 	private static final Logger LOG = LoggerFactory.getLogger(AbstractIoHandler.class);
@@ -33,6 +33,16 @@ abstract public class AbstractIoHandler implements IoHandler {
 		LOG.debug("[CRAFT-ATOM-IO] Idle |channel={}|", channel);
 	}
 
+	@Override
+	public void channelReadIdle(Channel<byte[]> channel) {
+		LOG.debug("[CRAFT-ATOM-IO] Read idle |channel={}|", channel);
+	}
+
+	@Override
+	public void channelWriteIdle(Channel<byte[]> channel) {
+		LOG.debug("[CRAFT-ATOM-IO] Write idle |channel={}|", channel);
+	}
+
 	@Override
 	public void channelRead(Channel<byte[]> channel, byte[] bytes) {
 		LOG.debug("[CRAFT-ATOM-IO] Read |channel={}, bytes={}|", channel, Arrays.toString(bytes));
@@ -48,6 +58,11 @@ abstract public class AbstractIoHandler implements IoHandler {
 		LOG.debug("[CRAFT-ATOM-IO] Written |channel={}, bytes={}|", channel, Arrays.toString(bytes));
 	}
 
+	@Override
+	public void channelWritabilityChanged(Channel<byte[]> channel) {
+		LOG.debug("[CRAFT-ATOM-IO] Writability changed |channel={}|", channel);
+	}
+
 	@Override
 	public void channelThrown(Channel<byte[]> channel, Exception cause) {
 		LOG.warn("[CRAFT-ATOM-IO] Thrown |channel={}|", channel, cause);
@@ -0,0 +1,84 @@
+package io.craft.atom.io;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A typed key of channel attribute.
+ * <p>
+ * Each key is assigned a small integer index when it is created, a channel stores the attribute values in an array
+ * indexed by the key, so reading an attribute is an array load rather than a hash lookup.
+ * Keys are unique by name and never released, they should be defined as constants, e.g.
+ * <pre>
+ * static final AttributeKey&lt;Session&gt; SESSION = AttributeKey.valueOf("session");
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString(of = { "name", "index" })
+public final class AttributeKey<T> {
+
+
+	private static final ConcurrentMap<String, AttributeKey<?>> KEYS = new ConcurrentHashMap<String, AttributeKey<?>>();
+	private static       int                                    count                                                ;
+
+
+	@Getter private final String name ;
+	        private final int    index;
+
+
+	// ~ -----------------------------------------------------------------------------------------------------------
+
+
+	private AttributeKey(String name, int index) {
+		this.name  = name;
+		this.index = index;
+	}
+
+
+	// ~ -----------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * Returns the key of the specified name, creates it if it does not exist.
+	 *
+	 * @param name the name of the key, can not be <tt>null</tt>
+	 * @return the key
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> AttributeKey<T> valueOf(String name) {
+		if (name == null) {
+			throw new IllegalArgumentException("name can not be null");
+		}
+
+		AttributeKey<?> key = KEYS.get(name);
+		if (key == null) {
+			synchronized (KEYS) {
+				key = KEYS.get(name);
+				if (key == null) {
+					key = new AttributeKey<T>(name, count++);
+					KEYS.put(name, key);
+				}
+			}
+		}
+		return (AttributeKey<T>) key;
+	}
+
+	/**
+	 * @return count of the keys created
+	 */
+	static int size() {
+		synchronized (KEYS) {
+			return count;
+		}
+	}
+
+	int index() {
+		return index;
+	}
+
+}
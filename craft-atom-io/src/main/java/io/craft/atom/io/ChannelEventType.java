@@ -23,9 +23,18 @@ public enum ChannelEventType {
 	/** When channel has written some data, fire this event */
 	CHANNEL_WRITTEN,
 	
+	/** When channel writability has changed, fire this event */
+	CHANNEL_WRITABILITY_CHANGED,
+	
 	/** When channel has no data transmit for a while, fire this event */
 	CHANNEL_IDLE,
 	
+	/** When channel has no data read for a while, fire this event */
+	CHANNEL_READ_IDLE,
+	
+	/** When channel has no data written for a while, fire this event */
+	CHANNEL_WRITE_IDLE,
+	
 	/** When channel operation throw exception, fire this event */
 	CHANNEL_THROWN
 
@@ -0,0 +1,28 @@
+package io.craft.atom.io;
+
+/**
+ * An {@link IoHandler} opts in read and write idle events.
+ * <p>
+ * If the handler implements this interface, read idle and write idle events are fired to it besides {@link IoHandler#channelIdle(Channel)},
+ * otherwise they are never fired.
+ * 
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public interface IoIdleHandler extends IoHandler {
+	
+	/**
+	 * Invoked when channel is read idle, read idle means there is no data read for a while.
+	 * 
+	 * @param channel
+	 */
+	void channelReadIdle(Channel<byte[]> channel);
+	
+	/**
+	 * Invoked when channel is write idle, write idle means there is no data written for a while.
+	 * 
+	 * @param channel
+	 */
+	void channelWriteIdle(Channel<byte[]> channel);
+	
+}
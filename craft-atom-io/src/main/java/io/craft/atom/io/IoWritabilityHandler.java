@@ -0,0 +1,22 @@
+package io.craft.atom.io;
+
+/**
+ * An {@link IoHandler} opts in writability changed events.
+ * <p>
+ * If the handler implements this interface, writability changed events are fired to it when the bytes waiting to be flushed 
+ * cross the write buffer water marks, otherwise they are never fired.
+ * 
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public interface IoWritabilityHandler extends IoHandler {
+	
+	/**
+	 * Invoked when the writability of channel has changed, check {@link AbstractIoByteChannel#isWritable()} to get the current state.
+	 * The handler should stop writing once channel becomes unwritable and continue after it becomes writable again.
+	 * 
+	 * @param channel
+	 */
+	void channelWritabilityChanged(Channel<byte[]> channel);
+	
+}
@@ -0,0 +1,79 @@
+package io.craft.atom.nio;
+
+import lombok.ToString;
+
+/**
+ * Token bucket limits the rate of accepted connections, one token is taken for each accepted connection.
+ * <p>
+ * It is shared by all the accept threads of an acceptor.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString(of = { "rate", "burst", "tokens" })
+class NioAcceptTokenBucket {
+
+
+	private final int    rate  ;
+	private final int    burst ;
+	private       double tokens;
+	private       long   last  ;
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * @param rate  tokens refilled per second
+	 * @param burst capacity of the bucket, the bucket is full at first.
+	 */
+	NioAcceptTokenBucket(int rate, int burst) {
+		this.rate   = rate;
+		this.burst  = burst;
+		this.tokens = burst;
+		this.last   = System.nanoTime();
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	synchronized boolean hasToken() {
+		refill();
+		return tokens >= 1;
+	}
+
+	synchronized boolean tryTake() {
+		refill();
+		if (tokens < 1) {
+			return false;
+		}
+		tokens--;
+		return true;
+	}
+
+	/**
+	 * Give back the token taken for an accept which got nothing.
+	 */
+	synchronized void giveBack() {
+		tokens = Math.min(burst, tokens + 1);
+	}
+
+	/**
+	 * @return milliseconds to wait for next token, <tt>0</tt> if there is one now.
+	 */
+	synchronized long waitMillis() {
+		refill();
+		if (tokens >= 1) {
+			return 0;
+		}
+		return (long) Math.ceil((1 - tokens) * 1000 / rate);
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		tokens = Math.min(burst, tokens + (now - last) * rate / 1000000000d);
+		last = now;
+	}
+
+}
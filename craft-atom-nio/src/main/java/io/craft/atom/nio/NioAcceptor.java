@@ -11,11 +11,14 @@ import io.craft.atom.nio.spi.NioChannelEventDispatcher;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ClosedSelectorException;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -23,6 +26,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.ToString;
 
@@ -37,22 +41,19 @@ import org.slf4j.LoggerFactory;
  * @see NioTcpAcceptor
  * @see NioUdpAcceptor
  */
-@ToString(callSuper = true, of = { "config", "bindAddresses", "unbindAddresses", "boundmap" })
+@ToString(callSuper = true, of = { "config", "boundmap" })
 abstract public class NioAcceptor extends NioReactor implements IoAcceptor {
 	
 	
 	private static final Logger LOG = LoggerFactory.getLogger(NioAcceptor.class);
 	
 	
-	protected final    Set<SocketAddress>                    bindAddresses   = new HashSet<SocketAddress>()                             ;
-	protected final    Set<SocketAddress>                    unbindAddresses = new HashSet<SocketAddress>()                             ;
-	protected final    Map<SocketAddress, SelectableChannel> boundmap        = new ConcurrentHashMap<SocketAddress, SelectableChannel>();
-	protected final    Object                                lock            = new Object()                                             ;
-	protected volatile boolean                               selectable      = false                                                    ;
-	protected volatile boolean                               endFlag         = false                                                    ;
-	protected          NioAcceptorConfig                     config                                                                     ;
-	protected          IOException                           exception                                                                  ;
-	protected          Selector                              selector                                                                   ;
+	protected final    Map<SocketAddress, SelectableChannel> boundmap               = new ConcurrentHashMap<SocketAddress, SelectableChannel>();
+	private   final    Map<SocketAddress, AcceptThread>      ownermap               = new ConcurrentHashMap<SocketAddress, AcceptThread>()     ;
+	private   final    AtomicInteger                         aliveAcceptThreadCount = new AtomicInteger()                                      ;
+	protected volatile boolean                               selectable             = false                                                    ;
+	protected          NioAcceptorConfig                     config                                                                            ;
+	private   volatile AcceptThread[]                        acceptThreads                                                                     ;
 	
 	
 	// ~ ----------------------------------------------------------------------------------------------------------
@@ -157,14 +158,6 @@ abstract public class NioAcceptor extends NioReactor implements IoAcceptor {
 			bind(firstLocalAddress, otherLocalAddresses);
 		} catch (IOException e) {
 			throw new RuntimeException("Failed to construct", e);
-		} finally {
-			if (!selectable && selector != null) {
-				try {
-					selector.close();
-				} catch (IOException e) {
-					LOG.warn("[CRAFT-ATOM-NIO] Selector close exception", e);
-				}
-			}
 		}
 	}
 	
@@ -207,6 +200,20 @@ abstract public class NioAcceptor extends NioReactor implements IoAcceptor {
 	 * @param predictorFactory
 	 */
 	public NioAcceptor(IoHandler handler, NioAcceptorConfig config, NioChannelEventDispatcher dispatcher, NioBufferSizePredictorFactory predictorFactory) {
+		this(handler, config, dispatcher, predictorFactory, null);
+	}
+	
+	/**
+	 * Constructs a new acceptor the specified configuration, dispatcher and predictor, but not binds to any address.
+	 * The acceptor registers onto the shared processor group if it is not <tt>null</tt>, otherwise it creates its own processors.
+	 * 
+	 * @param handler
+	 * @param config
+	 * @param dispatcher
+	 * @param predictorFactory
+	 * @param group
+	 */
+	public NioAcceptor(IoHandler handler, NioAcceptorConfig config, NioChannelEventDispatcher dispatcher, NioBufferSizePredictorFactory predictorFactory, NioProcessorGroup group) {
 		if (handler == null) {
 			throw new IllegalArgumentException("Handler should not be null!");
 		}
@@ -215,7 +222,8 @@ abstract public class NioAcceptor extends NioReactor implements IoAcceptor {
 		this.config = (config == null ? new NioAcceptorConfig() : config);
 		this.dispatcher = dispatcher;
 		this.predictorFactory = predictorFactory;
-		this.pool = new NioProcessorPool(config, handler, dispatcher);
+		this.group = group;
+		this.pool = (group == null ? new NioProcessorPool(this.config) : group.retain());
 	}
 	
 	
@@ -223,14 +231,29 @@ abstract public class NioAcceptor extends NioReactor implements IoAcceptor {
 	
 	
 	/**
-	 * Init nio acceptor to ready state for bind socket address.
+	 * Init nio acceptor to ready state for bind socket address, each accept thread owns a selector.
 	 * 
 	 * @throws IOException
 	 */
 	private void init() throws IOException {
-		selector = Selector.open();
+		AcceptThread[] threads = new AcceptThread[config.getAcceptorPoolSize()];
+		try {
+			for (int i = 0; i < threads.length; i++) {
+				threads[i] = new AcceptThread(i, Selector.open());
+			}
+		} catch (IOException e) {
+			for (AcceptThread at : threads) {
+				if (at != null) { at.selector.close(); }
+			}
+			throw e;
+		}
+		
+		acceptThreads = threads;
+		aliveAcceptThreadCount.set(threads.length);
 		selectable = true;
-		new AcceptThread().start();
+		for (AcceptThread at : threads) {
+			at.start();
+		}
 	}
 	
 	@Override
@@ -257,114 +280,90 @@ abstract public class NioAcceptor extends NioReactor implements IoAcceptor {
 			}
 		}
 		
-		bindAddresses.addAll(localAddresses);
-		
-		if (!bindAddresses.isEmpty()) {
-			synchronized (lock) {
-				// wake up for unblocking the select() to process binding addresses
-				selector.wakeup();
-
-				// wait for bind result
-				wait0();
+		// distribute addresses to the accept threads which own the fewest server sockets
+		int[] loads = new int[acceptThreads.length];
+		for (AcceptThread at : ownermap.values()) {
+			loads[at.index]++;
+		}
+		List<List<SocketAddress>> assigned = new ArrayList<List<SocketAddress>>(acceptThreads.length);
+		for (int i = 0; i < acceptThreads.length; i++) {
+			assigned.add(new ArrayList<SocketAddress>(2));
+		}
+		for (SocketAddress address : localAddresses) {
+			int min = 0;
+			for (int i = 1; i < loads.length; i++) {
+				if (loads[i] < loads[min]) { min = i; }
 			}
+			assigned.get(min).add(address);
+			loads[min]++;
 		}
-	}
-	
-	private void wait0() throws IOException {
-		while (!this.endFlag) {
+		
+		// bind on accept threads one by one, stop at the first failure and rollback the addresses bound by this call.
+		for (int i = 0; i < acceptThreads.length; i++) {
+			AcceptThread at = acceptThreads[i];
 			try {
-				lock.wait();
-			} catch (InterruptedException e) {
-				throw new IOException(e);
+				at.execute(at.bindAddresses, assigned.get(i));
+			} catch (IOException e) {
+				for (int j = 0; j < i; j++) {
+					rollback(assigned.get(j));
+				}
+				throw e;
 			}
 		}
-
-		// reset end flag
-		this.endFlag = false;
-
-		if (this.exception != null) {
-			IOException e = exception;
-			this.exception = null;
-			throw e;
-		}
 	}
 	
-	private void bind0() {
-		if (!bindAddresses.isEmpty()) {
-			for (SocketAddress address : bindAddresses) {
-				boolean success = false;
-				try {
-					bindByProtocol(address);
-					success = true;
-					
-					LOG.debug("[CRAFT-ATOM-NIO] Bind |address={}|", address);
-				} catch (IOException e) {
-					exception = e;
-				} finally {
-					if (!success) {
-						rollback();
-						break;
-					}
-				}
+	/**
+	 * Rollback the bound addresses of a failed bind operation, the addresses bound by former bind operations stay open.
+	 * 
+	 * @param addresses
+	 */
+	protected void rollback(Collection<SocketAddress> addresses) {
+		for (SocketAddress address : addresses) {
+			SelectableChannel sc = boundmap.remove(address);
+			if (sc == null) {
+				continue;
 			}
 			
-			bindAddresses.clear();
-			
-			// notify bind end
-			synchronized (lock) {
-				endFlag = true;
-				lock.notifyAll();
+			try {
+				close(address, sc);
+			} catch (IOException e) {
+				LOG.warn("[CRAFT-ATOM-NIO] Rollback bind operation exception", e);
 			}
 		}
 	}
 	
 	/**
-	 * Rollback already bound address
+	 * Close the server socket, it may be bound by another accept thread, so wake up its owner selector to deregister it.
 	 */
-	protected void rollback() {
-		 Iterator<Entry<SocketAddress, SelectableChannel>> it = boundmap.entrySet().iterator();
-		 while(it.hasNext()) {
-			 Entry<SocketAddress, SelectableChannel> entry = it.next();
-			 try {
-				 close(entry.getValue());
-			 } catch (IOException e) {
-				 LOG.warn("[CRAFT-ATOM-NIO] Rollback bind operation exception", e);
-			 } finally {
-				 it.remove();
-			 }
-		 }
-	}
-	
-	private void close(SelectableChannel sc) throws IOException {
-		if (sc != null) {
-			SelectionKey key = sc.keyFor(selector);
-			if (key != null) {
-				key.cancel();
-			}
-			sc.close();
+	private void close(SocketAddress address, SelectableChannel sc) throws IOException {
+		AcceptThread owner = ownermap.remove(address);
+		if (sc == null) {
+			return;
+		}
+		
+		SelectionKey key = (owner == null ? null : sc.keyFor(owner.selector));
+		if (key != null) {
+			key.cancel();
+		}
+		sc.close();
+		if (owner != null && owner != Thread.currentThread()) {
+			owner.selector.wakeup();
 		}
 	}
 	
 	@Override
 	public void shutdown() {
 		this.selectable = false;
-		this.selector.wakeup();
-	}
-	
-	private void shutdown0() throws IOException {
-		// clear bind/unbind addresses cache
-		this.bindAddresses.clear();
-		this.unbindAddresses.clear();
-		
-		// close all opened server socket channel
-		for (SelectableChannel sc : boundmap.values()) {
-			close(sc);
+		AcceptThread[] threads = acceptThreads;
+		if (threads == null) {
+			// never bound, no accept thread to shutdown the acceptor
+			super.shutdown();
+			return;
 		}
 		
-		// close acceptor selector
-		this.selector.close();
-		super.shutdown();
-		LOG.debug("[CRAFT-ATOM-NIO] Shutdown acceptor successful");
+		for (AcceptThread at : threads) {
+			at.selector.wakeup();
+		}
 	}
 	
 	@Override
@@ -384,75 +383,51 @@ abstract public class NioAcceptor extends NioReactor implements IoAcceptor {
 		}
 
 		List<SocketAddress> localAddresses = new ArrayList<SocketAddress>(2);
-		if (boundmap.containsKey(firstLocalAddress)) {
-			localAddresses.add(firstLocalAddress);
-		}
-
+		localAddresses.add(firstLocalAddress);
 		if (otherLocalAddresses != null) {
 			for (SocketAddress address : otherLocalAddresses) {
-				if (boundmap.containsKey(address)) {
-					localAddresses.add(address);
-				}
+				localAddresses.add(address);
 			}
 		}
 		
-		unbindAddresses.addAll(localAddresses);
+		// each address is unbound by the accept thread owns it
+		if (acceptThreads == null) {
+			return;
+		}
 		
-		if (!unbindAddresses.isEmpty()) {
-			synchronized (lock) {
-				// wake up for unblocking the select() to process unbinded addresses
-				selector.wakeup();
-				
-				// wait for unbind result
-				wait0();
+		for (AcceptThread at : acceptThreads) {
+			List<SocketAddress> owned = new ArrayList<SocketAddress>(2);
+			for (SocketAddress address : localAddresses) {
+				if (ownermap.get(address) == at) {
+					owned.add(address);
+				}
 			}
+			at.execute(at.unbindAddresses, owned);
 		}
 	}
 	
 	/**
-	 * Unbind at once according to specified type.
+	 * @param selector the selector of current accept thread
+	 * @return max milliseconds the accept thread blocks in select, <tt>0</tt> means blocks until a key is selected or wakeup.
 	 */
-	private void unbind0() {
-		if (!unbindAddresses.isEmpty()) {
-			for (SocketAddress address : unbindAddresses) {
-				try {
-					if (boundmap.containsKey(address)) {
-						SelectableChannel sc = boundmap.get(address);
-						close(sc);
-						boundmap.remove(address);
-					}
-
-					LOG.debug("[CRAFT-ATOM-NIO] Unbind |address={}|" + address);
-				} catch (IOException e) {
-					exception = e;
-				} 
-			}
-			
-			unbindAddresses.clear();
-			
-			// notify bind end
-			synchronized (lock) {
-				endFlag = true;
-				lock.notifyAll();
-			}
-		}
+	protected long selectTimeout(Selector selector) {
+		return 0;
 	}
 	
-	private void accept() throws IOException {
-		Iterator<SelectionKey> it = selector.selectedKeys().iterator();
-		while (it.hasNext()) {
-			SelectionKey key = it.next();
-			it.remove();
-			acceptByProtocol(key);
-		}
-	}
+	/**
+	 * Called by the accept thread after each select, resumes accepting on keys which were paused for rate limit.
+	 * 
+	 * @param selector the selector of current accept thread
+	 */
+	protected void resumeAccept(Selector selector) {}
 	
 	/**
 	 * Bind at once according to protocol type.
 	 * 
 	 * @param address
+	 * @param selector the selector of the accept thread owns the address
 	 */
-	protected abstract void bindByProtocol(SocketAddress address) throws IOException;	
+	protected abstract void bindByProtocol(SocketAddress address, Selector selector) throws IOException;	
 	
 	/**
 	 * Accept at once according to protocol type.
@@ -466,16 +441,39 @@ abstract public class NioAcceptor extends NioReactor implements IoAcceptor {
 	// ~ ------------------------------------------------------------------------------------------------------------
 	
 	
+	/**
+	 * Accept thread owns a selector and the server sockets registered on it, it binds, accepts and unbinds them.
+	 */
 	private class AcceptThread extends Thread {
+		
+		
+		private final    int                index                                         ;
+		private final    Selector           selector                                      ;
+		private final    Set<SocketAddress> bindAddresses   = new HashSet<SocketAddress>();
+		private final    Set<SocketAddress> unbindAddresses = new HashSet<SocketAddress>();
+		private final    Object             lock            = new Object()                ;
+		private volatile boolean            endFlag         = false                       ;
+		private          IOException        exception                                     ;
+		
+		
+		private AcceptThread(int index, Selector selector) {
+			this.index    = index;
+			this.selector = selector;
+		}
+		
+		
 		public void run() {
 			while (selectable) {
 				try {
-					int selected = selector.select();
+					int selected = selector.select(selectTimeout(selector));
 					
 					if (selected > 0) {
 						accept();
 					}
 					
+					// resume paused keys if tokens refilled
+					resumeAccept(selector);
+					
 					// bind addresses to listen
 					bind0();
 					
@@ -499,13 +497,160 @@ abstract public class NioAcceptor extends NioReactor implements IoAcceptor {
 				LOG.error("[CRAFT-ATOM-NIO] Shutdown exception", e);
 			}
 		}
+		
+		/**
+		 * Hand over the addresses to this thread and wait for the result.
+		 * 
+		 * @param pending   pending bind or unbind addresses of this thread
+		 * @param addresses
+		 * @throws IOException
+		 */
+		private void execute(Set<SocketAddress> pending, List<SocketAddress> addresses) throws IOException {
+			if (addresses.isEmpty()) {
+				return;
+			}
+			
+			synchronized (lock) {
+				pending.addAll(addresses);
+				
+				// wake up for unblocking the select() to process the addresses
+				selector.wakeup();
+				
+				// wait for the result
+				wait0();
+			}
+		}
+		
+		private void wait0() throws IOException {
+			while (!this.endFlag) {
+				try {
+					lock.wait();
+				} catch (InterruptedException e) {
+					throw new IOException(e);
+				}
+			}
+
+			// reset end flag
+			this.endFlag = false;
+
+			if (this.exception != null) {
+				IOException e = exception;
+				this.exception = null;
+				throw e;
+			}
+		}
+		
+		private void bind0() {
+			if (!bindAddresses.isEmpty()) {
+				List<SocketAddress> bound = new ArrayList<SocketAddress>(bindAddresses.size());
+				for (SocketAddress address : bindAddresses) {
+					boolean success = false;
+					try {
+						bindByProtocol(address, selector);
+						ownermap.put(address, this);
+						bound.add(address);
+						success = true;
+						
+						LOG.debug("[CRAFT-ATOM-NIO] Bind |address={}|", address);
+					} catch (IOException e) {
+						exception = e;
+					} finally {
+						if (!success) {
+							rollback(bound);
+							break;
+						}
+					}
+				}
+				
+				bindAddresses.clear();
+				
+				// notify bind end
+				synchronized (lock) {
+					endFlag = true;
+					lock.notifyAll();
+				}
+			}
+		}
+		
+		/**
+		 * Unbind at once according to specified type.
+		 */
+		private void unbind0() {
+			if (!unbindAddresses.isEmpty()) {
+				for (SocketAddress address : unbindAddresses) {
+					try {
+						SelectableChannel sc = boundmap.get(address);
+						if (sc != null) {
+							close(address, sc);
+							boundmap.remove(address);
+						}
+
+						LOG.debug("[CRAFT-ATOM-NIO] Unbind |address={}|", address);
+					} catch (IOException e) {
+						exception = e;
+					} 
+				}
+				
+				unbindAddresses.clear();
+				
+				// notify unbind end
+				synchronized (lock) {
+					endFlag = true;
+					lock.notifyAll();
+				}
+			}
+		}
+		
+		private void accept() throws IOException {
+			Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+			while (it.hasNext()) {
+				SelectionKey key = it.next();
+				it.remove();
+				try {
+					acceptByProtocol(key);
+				} catch (ClosedChannelException e) {
+					// the server socket is closed by unbind or rollback in another thread, skip it and keep serving the other ones.
+					LOG.debug("[CRAFT-ATOM-NIO] Accept on closed server socket |key={}|", key);
+				} catch (CancelledKeyException e) {
+					LOG.debug("[CRAFT-ATOM-NIO] Accept on cancelled key |key={}|", key);
+				}
+			}
+		}
+		
+		private void shutdown0() throws IOException {
+			// clear bind/unbind addresses cache
+			this.bindAddresses.clear();
+			this.unbindAddresses.clear();
+			
+			// close all opened server socket channel of this thread
+			for (Entry<SocketAddress, AcceptThread> entry : ownermap.entrySet()) {
+				if (entry.getValue() == this) {
+					close(entry.getKey(), boundmap.remove(entry.getKey()));
+				}
+			}
+			
+			// close accept selector, the last accept thread shutdown the reactor
+			this.selector.close();
+			if (aliveAcceptThreadCount.decrementAndGet() == 0) {
+				NioAcceptor.super.shutdown();
+				LOG.debug("[CRAFT-ATOM-NIO] Shutdown acceptor successful");
+			}
+		}
+		
 	}
 	
 	@Override
 	public IoAcceptorX x() {
 		NioAcceptorX x = new NioAcceptorX();
-		x.setWaitBindAddresses(new HashSet<SocketAddress>(bindAddresses));
-		x.setWaitUnbindAddresses(new HashSet<SocketAddress>(unbindAddresses));
+		Set<SocketAddress> waitBindAddresses = new HashSet<SocketAddress>();
+		Set<SocketAddress> waitUnbindAddresses = new HashSet<SocketAddress>();
+		AcceptThread[] threads = acceptThreads;
+		for (int i = 0; threads != null && i < threads.length; i++) {
+			waitBindAddresses.addAll(threads[i].bindAddresses);
+			waitUnbindAddresses.addAll(threads[i].unbindAddresses);
+		}
+		x.setWaitBindAddresses(waitBindAddresses);
+		x.setWaitUnbindAddresses(waitUnbindAddresses);
 		x.setBoundAddresses(new HashSet<SocketAddress>(boundmap.keySet()));
 		IoReactorX rx = super.x();
 		x.setNewChannelCount(rx.newChannelCount());
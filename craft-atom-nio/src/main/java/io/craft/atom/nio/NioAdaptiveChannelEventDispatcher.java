@@ -0,0 +1,171 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.ChannelEvent;
+import io.craft.atom.nio.spi.AbstractNioChannelEventDispatcher;
+import io.craft.atom.util.thread.NamedThreadFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import lombok.ToString;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link NioAdaptiveChannelEventDispatcher} that maintains order of {@link NioByteChannelEvent} in the same channel.
+ * <p>
+ * Events are fired inline in io process thread by default like {@link NioOrderedDirectChannelEventDispatcher},
+ * and execution time of each event is measured. Once an event of a channel exceeds the latency budget,
+ * subsequent events of the channel are offloaded to a worker thread pool, so a slow handler does not stall the processor.
+ * An offloaded channel moves back to inline after its handler is fast again for a number of consecutive events and its pending events are drained.
+ * A channel is held by at most one worker at a time, and it never fires inline while it has pending offloaded events, which keeps events in order.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString(callSuper = true, of = { "latencyBudget", "recoverCount", "executor" })
+public class NioAdaptiveChannelEventDispatcher extends AbstractNioChannelEventDispatcher {
+
+
+	private static final Logger LOG        = LoggerFactory.getLogger(NioAdaptiveChannelEventDispatcher.class);
+	private static final int    SPIN_COUNT = 256                                                             ;
+
+
+	private final long            latencyBudget;
+	private final int             recoverCount ;
+	private final ExecutorService executor     ;
+
+
+	// ~ ------------------------------------------------------------------------------------------------------------
+
+
+	public NioAdaptiveChannelEventDispatcher() {
+		this(Runtime.getRuntime().availableProcessors() * 8, 1, 128, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param executorSize          size of the worker thread pool for offloaded channels.
+	 * @param latencyBudgetInMillis an event runs longer than it makes its channel offloaded.
+	 * @param recoverCount          consecutive events within the budget to move an offloaded channel back to inline.
+	 * @param totalEventSize
+	 */
+	public NioAdaptiveChannelEventDispatcher(int executorSize, int latencyBudgetInMillis, int recoverCount, int totalEventSize) {
+		super(totalEventSize);
+
+		if (executorSize <= 0) {
+			executorSize = Runtime.getRuntime().availableProcessors() * 8;
+		}
+		if (latencyBudgetInMillis <= 0) {
+			latencyBudgetInMillis = 1;
+		}
+		if (recoverCount <= 0) {
+			recoverCount = 128;
+		}
+
+		this.latencyBudget = TimeUnit.MILLISECONDS.toNanos(latencyBudgetInMillis);
+		this.recoverCount  = recoverCount;
+		this.executor      = Executors.newFixedThreadPool(executorSize, new NamedThreadFactory("craft-atom-nio-adaptive-dispatcher"));
+	}
+
+
+	// ~ ------------------------------------------------------------------------------------------------------------
+
+
+	@Override
+	public void dispatch(ChannelEvent<byte[]> event) {
+		NioByteChannel channel = (NioByteChannel) event.getChannel();
+		beforeDispatch(channel);
+
+		// check scheduled flag before pending events, a released channel has drained all the events it polled.
+		if (!channel.eventOffloaded && channel.eventScheduled == 0 && channel.getEventQueue().isEmpty()) {
+			fireInline(event, channel);
+			return;
+		}
+
+		channel.add(event);
+		if (channel.scheduleEvent()) {
+			executor.execute(new Drain(channel));
+		}
+	}
+
+	private void fireInline(ChannelEvent<byte[]> event, NioByteChannel channel) {
+		long start = System.nanoTime();
+		try {
+			event.fire();
+		} finally {
+			afterDispatch(channel);
+		}
+
+		long elapsed = System.nanoTime() - start;
+		if (elapsed > latencyBudget) {
+			channel.fastEventCount = 0;
+			channel.eventOffloaded = true;
+			LOG.debug("[CRAFT-ATOM-NIO] Offload slow channel |channel={}, elapsed={}ns|", channel, elapsed);
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+
+	// ~ ------------------------------------------------------------------------------------------------------------
+
+
+	private class Drain implements Runnable {
+
+		private final NioByteChannel channel;
+
+		Drain(NioByteChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		public void run() {
+			try {
+				fire();
+			} catch (Throwable t) {
+				LOG.warn("[CRAFT-ATOM-NIO] Fire event exception", t);
+			}
+
+			// release the channel, if any event is added after the last poll, schedule it again.
+			channel.unscheduleEvent();
+			if (!channel.getEventQueue().isEmpty() && channel.scheduleEvent()) {
+				executor.execute(new Drain(channel));
+			}
+		}
+
+		private void fire() {
+			int count = 0;
+			Queue<ChannelEvent<byte[]>> q = channel.getEventQueue();
+			for (ChannelEvent<byte[]> event = q.poll(); event != null; event = q.poll()) {
+				long start = System.nanoTime();
+				try {
+					event.fire();
+				} finally {
+					afterDispatch(channel);
+				}
+
+				long elapsed = System.nanoTime() - start;
+				channel.fastEventCount = (elapsed > latencyBudget ? 0 : channel.fastEventCount + 1);
+				count++;
+				if (count > SPIN_COUNT) {
+					// quit loop to avoid stick same worker thread by same channel
+					return;
+				}
+			}
+
+			// all pending events are drained and handler is fast again, move back to inline.
+			if (channel.eventOffloaded && channel.fastEventCount >= recoverCount) {
+				channel.eventOffloaded = false;
+				LOG.debug("[CRAFT-ATOM-NIO] Inline recovered channel |channel={}|", channel);
+			}
+		}
+
+	}
+
+}
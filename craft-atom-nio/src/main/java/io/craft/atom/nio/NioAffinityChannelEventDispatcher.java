@@ -0,0 +1,196 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.ChannelEvent;
+import io.craft.atom.nio.spi.AbstractNioChannelEventDispatcher;
+import io.craft.atom.util.thread.NamedThreadFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.ToString;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link NioAffinityChannelEventDispatcher} that maintains order of {@link NioByteChannelEvent} in the same channel.
+ * <p>
+ * Each worker has its own channel queue and a channel is always queued to the same worker by its id,
+ * so events of a channel are mostly processed in the same thread with warm cache, and there is no global queue lock.
+ * A worker runs dry steals channels from other workers' queues before it parks.
+ * A channel is scheduled to at most one worker at a time, which keeps events of the channel in order.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString(callSuper = true, of = { "workers" })
+public class NioAffinityChannelEventDispatcher extends AbstractNioChannelEventDispatcher {
+
+
+	private static final Logger LOG        = LoggerFactory.getLogger(NioAffinityChannelEventDispatcher.class);
+	private static final int    SPIN_COUNT = 256                                                             ;
+	private static final long   PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10)                              ;
+
+
+	private final    Worker[]        workers                                          ;
+	private final    Queue<Worker>   idleWorkers = new ConcurrentLinkedQueue<Worker>();
+	private final    ExecutorService executor                                         ;
+	private volatile boolean         shutdown                                         ;
+
+
+	// ~ ------------------------------------------------------------------------------------------------------------
+
+
+	public NioAffinityChannelEventDispatcher() {
+		this(Runtime.getRuntime().availableProcessors(), Integer.MAX_VALUE);
+	}
+
+	public NioAffinityChannelEventDispatcher(int executorSize, int totalEventSize) {
+		super(totalEventSize);
+
+		if (executorSize <= 0) {
+			executorSize = Runtime.getRuntime().availableProcessors();
+		}
+
+		this.workers  = new Worker[executorSize];
+		this.executor = Executors.newFixedThreadPool(executorSize, new NamedThreadFactory("craft-atom-nio-affinity-dispatcher"));
+		for (int i = 0; i < executorSize; i++) {
+			workers[i] = new Worker(i);
+		}
+		for (int i = 0; i < executorSize; i++) {
+			executor.execute(workers[i]);
+		}
+	}
+
+
+	// ~ ------------------------------------------------------------------------------------------------------------
+
+
+	@Override
+	public void dispatch(ChannelEvent<byte[]> event) {
+		NioByteChannel channel = (NioByteChannel) event.getChannel();
+		beforeDispatch(channel);
+		channel.add(event);
+		if (channel.scheduleEvent()) {
+			schedule(channel);
+		}
+	}
+
+	private void schedule(NioByteChannel channel) {
+		Worker worker = workers[(int) (Math.abs(channel.getId()) % workers.length)];
+		worker.queue.offer(channel);
+		if (worker.parked) {
+			LockSupport.unpark(worker.thread);
+			return;
+		}
+
+		// the affinity worker is busy, wake an idle one to steal.
+		Worker idle = idleWorkers.poll();
+		if (idle != null) {
+			LockSupport.unpark(idle.thread);
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		shutdown = true;
+		executor.shutdownNow();
+	}
+
+
+	// ~ ------------------------------------------------------------------------------------------------------------
+
+
+	@ToString(of = { "index", "queue" })
+	private class Worker implements Runnable {
+
+
+		private final    int                   index                                                ;
+		private final    Queue<NioByteChannel> queue = new ConcurrentLinkedQueue<NioByteChannel>();
+		private volatile Thread                thread                                               ;
+		private volatile boolean               parked                                               ;
+
+
+		Worker(int index) {
+			this.index = index;
+		}
+
+
+		@Override
+		public void run() {
+			thread = Thread.currentThread();
+			while (!shutdown && !thread.isInterrupted()) {
+				NioByteChannel channel = next();
+				if (channel == null) {
+					park();
+					continue;
+				}
+
+				try {
+					fire(channel);
+				} catch (Throwable t) {
+					LOG.warn("[CRAFT-ATOM-NIO] Fire event exception", t);
+				}
+
+				// release the channel, if any event is added after the last poll, schedule it again.
+				channel.unscheduleEvent();
+				if (!channel.getEventQueue().isEmpty() && channel.scheduleEvent()) {
+					schedule(channel);
+				}
+			}
+		}
+
+		private NioByteChannel next() {
+			NioByteChannel channel = queue.poll();
+			if (channel != null) {
+				return channel;
+			}
+
+			// run dry, steal from others
+			for (int i = 1; i < workers.length; i++) {
+				channel = workers[(index + i) % workers.length].queue.poll();
+				if (channel != null) {
+					return channel;
+				}
+			}
+			return null;
+		}
+
+		private void park() {
+			parked = true;
+			idleWorkers.offer(this);
+
+			// check again after publishing parked state, a channel queued before it is not missed.
+			// it wakes up periodically to steal in case of all workers are busy while it was parking.
+			if (queue.isEmpty()) {
+				LockSupport.parkNanos(this, PARK_NANOS);
+			}
+
+			parked = false;
+			idleWorkers.remove(this);
+		}
+
+		private void fire(NioByteChannel channel) {
+			int count = 0;
+			Queue<ChannelEvent<byte[]>> q = channel.getEventQueue();
+			for (ChannelEvent<byte[]> event = q.poll(); event != null; event = q.poll()) {
+				try {
+					event.fire();
+				} finally {
+					afterDispatch(channel);
+				}
+				count++;
+				if (count > SPIN_COUNT) {
+					// quit loop to avoid stick same worker thread by same channel
+					break;
+				}
+			}
+		}
+
+	}
+
+}
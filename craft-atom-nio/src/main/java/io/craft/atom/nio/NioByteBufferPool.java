@@ -0,0 +1,117 @@
+package io.craft.atom.nio;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.ToString;
+
+/**
+ * A pool of direct byte buffers for zero-copy read, buffers are grouped by power of two capacity.
+ * <p>
+ * Thread safe, buffers are acquired by processor thread and may be released by any event process thread.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ * @see NioReadBuffer
+ */
+@ToString(of = { "maxCapacity", "maxPooledPerClass" })
+public class NioByteBufferPool {
+
+
+	private static final int MIN_SHIFT                = 6  ;
+	private static final int DEFAULT_POOLED_PER_CLASS = 256;
+
+
+	private final Queue<ByteBuffer>[] classes          ;
+	private final AtomicInteger[]     counts           ;
+	private final int                 maxCapacity      ;
+	private final int                 maxPooledPerClass;
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	NioByteBufferPool(int maxCapacity) {
+		this(maxCapacity, DEFAULT_POOLED_PER_CLASS);
+	}
+
+	@SuppressWarnings("unchecked")
+	NioByteBufferPool(int maxCapacity, int maxPooledPerClass) {
+		int n = index(maxCapacity) + 1;
+		this.maxCapacity       = 1 << (n - 1 + MIN_SHIFT);
+		this.maxPooledPerClass = maxPooledPerClass;
+		this.classes           = new Queue[n];
+		this.counts            = new AtomicInteger[n];
+		for (int i = 0; i < n; i++) {
+			classes[i] = new ConcurrentLinkedQueue<ByteBuffer>();
+			counts[i]  = new AtomicInteger(0);
+		}
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * Acquire a cleared buffer which capacity is not less than the specified size.
+	 *
+	 * @param size
+	 * @return a pooled buffer, or a new unpooled buffer if size is greater than max capacity of the pool.
+	 */
+	ByteBuffer acquire(int size) {
+		if (size > maxCapacity) {
+			return ByteBuffer.allocateDirect(size);
+		}
+
+		int idx = index(size);
+		ByteBuffer buf = classes[idx].poll();
+		if (buf == null) {
+			return ByteBuffer.allocateDirect(1 << (idx + MIN_SHIFT));
+		}
+
+		counts[idx].decrementAndGet();
+		buf.clear();
+		return buf;
+	}
+
+	/**
+	 * Give back a buffer to the pool, the buffer will be dropped if the pool is full or it is not acquired from the pool.
+	 *
+	 * @param buf
+	 */
+	void release(ByteBuffer buf) {
+		int capacity = buf.capacity();
+		if (capacity > maxCapacity || Integer.bitCount(capacity) != 1 || capacity < (1 << MIN_SHIFT)) {
+			return;
+		}
+
+		int idx = index(capacity);
+		if (counts[idx].incrementAndGet() > maxPooledPerClass) {
+			counts[idx].decrementAndGet();
+			return;
+		}
+
+		classes[idx].offer(buf);
+	}
+
+	/**
+	 * @return count of idle buffers in the pool.
+	 */
+	int size() {
+		int size = 0;
+		for (AtomicInteger count : counts) {
+			size += count.get();
+		}
+		return size;
+	}
+
+	private static int index(int size) {
+		if (size <= (1 << MIN_SHIFT)) {
+			return 0;
+		}
+		return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+	}
+
+}
@@ -4,19 +4,26 @@ import io.craft.atom.io.AbstractIoByteChannel;
 import io.craft.atom.io.ChannelEvent;
 import io.craft.atom.io.ChannelState;
 import io.craft.atom.io.IllegalChannelStateException;
+import io.craft.atom.io.IoHandler;
 import io.craft.atom.nio.spi.NioBufferSizePredictor;
 import io.craft.atom.nio.spi.NioChannelEventDispatcher;
+import io.craft.atom.util.queue.MpscLinkedQueue;
 
 import java.io.IOException;
 import java.net.SocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.AbstractQueue;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import lombok.ToString;
 
@@ -33,18 +40,51 @@ import lombok.ToString;
 abstract public class NioByteChannel extends AbstractIoByteChannel {
 	                   
 	
-	protected          SocketAddress               localAddress                                                        ;
-	protected          SocketAddress               remoteAddress                                                       ;
-	protected          SelectionKey                selectionKey                                                        ;
-	protected          NioProcessor                processor                                                           ;
-	protected final    Semaphore                   semaphore                                                           ;
-	protected final    NioChannelEventDispatcher   dispatcher                                                          ;
-	protected final    NioBufferSizePredictor      predictor                                                           ;
-	protected final    Queue<ByteBuffer>           writeBufferQueue = new ConcurrentLinkedQueue<ByteBuffer>()          ;
-	protected final    Queue<ChannelEvent<byte[]>> eventQueue       = new ConcurrentLinkedQueue<ChannelEvent<byte[]>>();
-	protected final    Object                      lock             = new Object()                                     ;
-	protected final    AtomicBoolean               scheduleFlush    = new AtomicBoolean(false)                         ;
-	protected volatile boolean                     eventProcessing  = false                                            ;
+	private static final AtomicLongFieldUpdater<NioByteChannel>    IO_BYTES_UPDATER            = AtomicLongFieldUpdater.newUpdater(NioByteChannel.class, "ioBytes")             ;
+	private static final AtomicIntegerFieldUpdater<NioByteChannel> EVENT_SCHEDULED_UPDATER     = AtomicIntegerFieldUpdater.newUpdater(NioByteChannel.class, "eventScheduled")   ;
+	private static final AtomicIntegerFieldUpdater<NioByteChannel> PENDING_EVENT_COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(NioByteChannel.class, "pendingEventCount");
+	private static final AtomicIntegerFieldUpdater<NioByteChannel> READ_THROTTLED_UPDATER      = AtomicIntegerFieldUpdater.newUpdater(NioByteChannel.class, "readThrottled")    ;
+	private static final AtomicIntegerFieldUpdater<NioByteChannel> SCHEDULE_FLUSH_UPDATER      = AtomicIntegerFieldUpdater.newUpdater(NioByteChannel.class, "scheduleFlush")    ;
+	private static final AtomicLongFieldUpdater<NioByteChannel>    WRITE_BUFFER_BYTES_UPDATER  = AtomicLongFieldUpdater.newUpdater(NioByteChannel.class, "writeBufferBytes")    ;
+	private static final Queue<Object>                             EMPTY_QUEUE                 = new EmptyQueue()                                                               ;
+	
+	
+	protected          SocketAddress               localAddress                                         ;
+	protected          SocketAddress               remoteAddress                                        ;
+	protected          SelectionKey                selectionKey                                         ;
+	protected volatile NioProcessor                processor                                            ;
+	protected          NioReactor                  reactor                                              ;
+	protected volatile int                         pendingEventCount                                    ;
+	protected volatile int                         readThrottled                                        ;
+	protected final    int                         channelEventSize                                     ;
+	protected final    NioChannelEventDispatcher   dispatcher                                           ;
+	protected          NioBufferSizePredictor      predictor                                            ;
+	protected volatile Queue<ByteBuffer>           writeBufferQueue                                     ;
+	protected          Queue<NioFileRegion>        fileRegionQueue                                      ;
+	protected          Queue<NioCompositeBuffer>   compositeQueue                                       ;
+	protected volatile Queue<ChannelEvent<byte[]>> eventQueue                                           ;
+	protected final    Object                      lock                     = new Object()              ;
+	protected volatile int                         scheduleFlush                                        ;
+	protected volatile long                        writeBufferBytes                                     ;
+	protected final    int                         writeBufferHighWaterMark                             ;
+	protected final    int                         writeBufferLowWaterMark                              ;
+	protected volatile boolean                     writable                 = true                      ;
+	protected          boolean                     writableNotified         = true                      ;
+	protected volatile boolean                     eventProcessing          = false                     ;
+	protected volatile int                         eventScheduled                                       ;
+	protected volatile boolean                     eventOffloaded                                       ;
+	protected          int                         fastEventCount                                       ;
+	protected          int                         flushFiredEntries                                    ;
+	protected volatile long                        ioBytes                                              ;
+	protected          long                        ioBytesSample                                        ;
+	protected volatile long                        ioRate                                               ;
+	protected volatile long                        lastReadTime             = System.currentTimeMillis();
+	protected volatile long                        lastWriteTime            = System.currentTimeMillis();
+	protected          NioChannelIdleTimer         idleTimer                                            ;
+	protected          long                        idleTick                                             ;
+	protected          long                        readIdleTime                                         ;
+	protected          long                        writeIdleTime                                        ;
+	protected          long                        allIdleTime                                          ;
 	
 	
 	// ~ ------------------------------------------------------------------------------------------------------------
@@ -52,9 +92,17 @@ abstract public class NioByteChannel extends AbstractIoByteChannel {
 	
 	public NioByteChannel(NioConfig config, NioBufferSizePredictor predictor, NioChannelEventDispatcher dispatcher) {
 		super(config.getMinReadBufferSize(), config.getDefaultReadBufferSize(), config.getMaxReadBufferSize());
-		this.semaphore = new Semaphore(config.getChannelEventSize(), false);
-		this.predictor = predictor;
-		this.dispatcher = dispatcher;
+		this.channelEventSize         = config.getChannelEventSize();
+		this.predictor                = predictor;
+		this.dispatcher               = dispatcher;
+		this.writeBufferHighWaterMark = config.getWriteBufferHighWaterMark();
+		this.writeBufferLowWaterMark  = config.getWriteBufferLowWaterMark();
+		
+		// compact channel creates its queues on first use, an idle channel holds none of them.
+		if (!config.isCompactChannel()) {
+			this.writeBufferQueue = new ConcurrentLinkedQueue<ByteBuffer>();
+			this.eventQueue       = new MpscLinkedQueue<ChannelEvent<byte[]>>();
+		}
 	}
 	
 	
@@ -79,17 +127,130 @@ abstract public class NioByteChannel extends AbstractIoByteChannel {
 		if (isPaused())   { throw new IllegalChannelStateException("Channel is paused"); }
 		if (data == null) { return false; }
 		
-		setLastIoTime(System.currentTimeMillis());
-		getWriteBufferQueue().add(ByteBuffer.wrap(data));
+		setLastIoTime(processor.currentTimeMillis());
+		return write0(ByteBuffer.wrap(data));
+	}
+	
+	private boolean write0(ByteBuffer buf) {
+		// the buffer is queued before writing through, so a write from another thread can never get ahead of its remaining bytes.
+		writeBufferQueue().add(buf);
+		incrementWriteBufferBytes(buf.remaining());
+		if (processor.writeThrough(this, buf)) {
+			return true;
+		}
+		
 		processor.flush(this);
 		return true;
 	}
 	
+	@Override
+	public boolean write(ByteBuffer... bufs) throws IllegalChannelStateException {
+		if (isClosed())   { throw new IllegalChannelStateException("Channel is closed"); }
+		if (isClosing())  { throw new IllegalChannelStateException("Channel is closing"); }
+		if (isPaused())   { throw new IllegalChannelStateException("Channel is paused"); }
+		if (bufs == null || bufs.length == 0) { return false; }
+		
+		// slice the buffers, so the position of the caller's buffers is not changed by flushing.
+		setLastIoTime(processor.currentTimeMillis());
+		if (bufs.length == 1) {
+			return write0(bufs[0].slice());
+		}
+		
+		// a datagram is one message, so the buffers are joined for udp.
+		if (!(innerChannel() instanceof SocketChannel)) {
+			return write0(join(bufs));
+		}
+		
+		ByteBuffer[] slices = new ByteBuffer[bufs.length];
+		for (int i = 0; i < bufs.length; i++) {
+			slices[i] = bufs[i].slice();
+		}
+		NioCompositeBuffer composite = new NioCompositeBuffer(slices);
+		
+		// a marker in write buffer queue holds the place of the composite buffer, it is a single entry so no other write is interleaved.
+		// writers of markers share the queue monitor to pair the markers with side queue entries in order, plain writes take no lock.
+		Queue<ByteBuffer> q = writeBufferQueue();
+		synchronized (q) {
+			if (compositeQueue == null) {
+				compositeQueue = new ConcurrentLinkedQueue<NioCompositeBuffer>();
+			}
+			compositeQueue.add(composite);
+			q.add(NioCompositeBuffer.MARKER);
+		}
+		incrementWriteBufferBytes(composite.remaining());
+		processor.flush(this);
+		return true;
+	}
+	
+	private static ByteBuffer join(ByteBuffer[] bufs) {
+		int size = 0;
+		for (ByteBuffer buf : bufs) {
+			size += buf.remaining();
+		}
+		
+		ByteBuffer joined = ByteBuffer.allocate(size);
+		for (ByteBuffer buf : bufs) {
+			joined.put(buf.duplicate());
+		}
+		joined.flip();
+		return joined;
+	}
+	
+	/**
+	 * Write a region of the file to this channel, the file bytes are sent by {@link FileChannel#transferTo} without copying through user space.
+	 * The region is queued in order with other written bytes and flushed with the same fairness.
+	 * <p>
+	 * The file is owned by the caller, it must be kept open until the region is written and it is not closed by the channel.
+	 * Only tcp channel supports it.
+	 * 
+	 * @param file
+	 * @param position start position of the region in the file.
+	 * @param count    bytes count of the region.
+	 * @return <tt>true</tt> if the region is queued.
+	 * @throws IllegalChannelStateException
+	 */
+	public boolean writeFile(FileChannel file, long position, long count) throws IllegalChannelStateException {
+		if (isClosed())   { throw new IllegalChannelStateException("Channel is closed"); }
+		if (isClosing())  { throw new IllegalChannelStateException("Channel is closing"); }
+		if (isPaused())   { throw new IllegalChannelStateException("Channel is paused"); }
+		if (!(innerChannel() instanceof SocketChannel)) { throw new UnsupportedOperationException("File transfer is only supported by tcp channel"); }
+		if (file == null || position < 0 || count <= 0) { return false; }
+		
+		setLastIoTime(processor.currentTimeMillis());
+		
+		// a marker in write buffer queue holds the place of the region, they are paired in order.
+		// the region queue is created on first use, it is published to processor thread by the marker in write buffer queue.
+		Queue<ByteBuffer> q = writeBufferQueue();
+		synchronized (q) {
+			if (fileRegionQueue == null) {
+				fileRegionQueue = new ConcurrentLinkedQueue<NioFileRegion>();
+			}
+			fileRegionQueue.add(new NioFileRegion(file, position, count));
+			q.add(NioFileRegion.MARKER);
+		}
+		incrementWriteBufferBytes(count);
+		processor.flush(this);
+		return true;
+	}
+	
+	@Override
+	public boolean isWritable() {
+		return writable;
+	}
+	
 	@Override
 	public Queue<byte[]> getWriteQueue() {
 		Queue<byte[]> q = new LinkedBlockingQueue<byte[]>();
-		for (ByteBuffer buf : writeBufferQueue) {
-			q.add(buf.array());
+		Iterator<NioCompositeBuffer> composites = null;
+		for (ByteBuffer buf : getWriteBufferQueue()) {
+			if (buf == NioCompositeBuffer.MARKER) {
+				if (composites == null) {
+					composites = compositeQueue.iterator();
+				}
+				q.add(composites.next().toBytes());
+			} else {
+				q.add(toBytes(buf));
+			}
 		}
 		return q;
 	}
@@ -104,32 +265,98 @@ abstract public class NioByteChannel extends AbstractIoByteChannel {
 		return remoteAddress;
 	}
 	
+	/**
+	 * @return the last time of reading bytes from this channel.
+	 */
+	public long getLastReadTime() {
+		return lastReadTime;
+	}
+	
+	/**
+	 * @return the last time of writing bytes to this channel.
+	 */
+	public long getLastWriteTime() {
+		return lastWriteTime;
+	}
+	
 	public void setProcessor(NioProcessor processor) {
 		this.processor = processor;
 	}
 	
+	@Override
+	public void pause() {
+		super.pause();
+		if (processor != null) {
+			processor.updateReadInterest(this);
+		}
+	}
+	
+	@Override
+	public void resume() {
+		super.resume();
+		if (processor != null) {
+			processor.updateReadInterest(this);
+		}
+	}
+	
+	/**
+	 * Count a pending event of this channel, reading is throttled if pending events exceed channel event size.
+	 * 
+	 * @return <tt>true</tt> if pending events do not exceed channel event size.
+	 */
 	public boolean tryAcquire() {
-		return semaphore.tryAcquire();
+		int count = PENDING_EVENT_COUNT_UPDATER.incrementAndGet(this);
+		if (count <= channelEventSize) {
+			return true;
+		}
+		
+		if (READ_THROTTLED_UPDATER.compareAndSet(this, 0, 1)) {
+			// pending events may be drained at the same time, check again avoid throttling forever.
+			if (pendingEventCount <= (channelEventSize >>> 1) && READ_THROTTLED_UPDATER.compareAndSet(this, 1, 0)) {
+				return false;
+			}
+			if (processor != null) {
+				processor.updateReadInterest(this);
+			}
+		}
+		return false;
 	}
 	
+	/**
+	 * Discount a pending event of this channel, throttled reading is resumed once pending events drain to half of channel event size.
+	 */
 	public void release() {
-		semaphore.release();
+		int count = PENDING_EVENT_COUNT_UPDATER.decrementAndGet(this);
+		if (count <= (channelEventSize >>> 1) && readThrottled == 1 && READ_THROTTLED_UPDATER.compareAndSet(this, 1, 0) && processor != null) {
+			processor.updateReadInterest(this);
+		}
 	}
 	
 	public int availablePermits() {
-		return semaphore.availablePermits();
+		return channelEventSize - pendingEventCount;
+	}
+	
+	/**
+	 * @return <tt>true</tt> if the channel is paused or its reading is throttled by too many pending events.
+	 */
+	public boolean isReadSuspended() {
+		return isPaused() || readThrottled == 1;
 	}
 	
     public void unsetScheduleFlush() {
-    	scheduleFlush.set(false);
+    	scheduleFlush = 0;
+    }
+    
+    public boolean isScheduleFlush() {
+    	return scheduleFlush == 1;
     }
     
     public boolean setScheduleFlush(boolean schedule) {
         if (schedule) {
-            return scheduleFlush.compareAndSet(false, schedule);
+            return SCHEDULE_FLUSH_UPDATER.compareAndSet(this, 0, 1);
         }
 
-        scheduleFlush.set(schedule);
+        scheduleFlush = 0;
         return true;
     }
 	
@@ -138,7 +365,17 @@ abstract public class NioByteChannel extends AbstractIoByteChannel {
 	
     
 	void add(ChannelEvent<byte[]> event) {
-		eventQueue.offer(event);
+		Queue<ChannelEvent<byte[]>> q = eventQueue;
+		if (q == null) {
+			synchronized (lock) {
+				q = eventQueue;
+				if (q == null) {
+					q = new MpscLinkedQueue<ChannelEvent<byte[]>>();
+					eventQueue = q;
+				}
+			}
+		}
+		q.offer(event);
 	}
 	
 	boolean isValid() {		
@@ -173,12 +410,60 @@ abstract public class NioByteChannel extends AbstractIoByteChannel {
 		this.selectionKey = key;
 	}
 	
+	/**
+	 * @return write buffer queue, an empty queue if it is not created yet.
+	 */
+	@SuppressWarnings("unchecked")
 	Queue<ByteBuffer> getWriteBufferQueue() {
-		return writeBufferQueue;
+		Queue<ByteBuffer> q = writeBufferQueue;
+		return (q == null ? (Queue<ByteBuffer>) (Queue<?>) EMPTY_QUEUE : q);
+	}
+	
+	private Queue<ByteBuffer> writeBufferQueue() {
+		Queue<ByteBuffer> q = writeBufferQueue;
+		if (q == null) {
+			synchronized (lock) {
+				q = writeBufferQueue;
+				if (q == null) {
+					q = new ConcurrentLinkedQueue<ByteBuffer>();
+					writeBufferQueue = q;
+				}
+			}
+		}
+		return q;
 	}
 	
+	/**
+	 * @param buf a queued write buffer
+	 * @return bytes of the whole buffer, the backing array itself if the buffer wraps a whole array, otherwise a copy.
+	 */
+	static byte[] toBytes(ByteBuffer buf) {
+		if (buf.hasArray() && buf.arrayOffset() == 0 && buf.array().length == buf.capacity()) {
+			return buf.array();
+		}
+		
+		ByteBuffer dup = buf.duplicate();
+		dup.clear();
+		byte[] bytes = new byte[dup.remaining()];
+		dup.get(bytes);
+		return bytes;
+	}
+	
+	Queue<NioFileRegion> getFileRegionQueue() {
+		return fileRegionQueue;
+	}
+	
+	Queue<NioCompositeBuffer> getCompositeQueue() {
+		return compositeQueue;
+	}
+	
+	/**
+	 * @return event queue, an empty queue if it is not created yet.
+	 */
+	@SuppressWarnings("unchecked")
 	Queue<ChannelEvent<byte[]>> getEventQueue() {
-		return eventQueue;
+		Queue<ChannelEvent<byte[]>> q = eventQueue;
+		return (q == null ? (Queue<ChannelEvent<byte[]>>) (Queue<?>) EMPTY_QUEUE : q);
 	}
 	
 	boolean isEventProcessing() {
@@ -189,17 +474,171 @@ abstract public class NioByteChannel extends AbstractIoByteChannel {
 		this.eventProcessing = eventProcessing;
 	}
 	
-	boolean isReadable() {
-		return isOpen() && selectionKey.isValid() && selectionKey.isReadable();
+	/**
+	 * Try to schedule the channel for event processing, a scheduled channel is held by one dispatcher worker at a time.
+	 * 
+	 * @return <tt>true</tt> if the channel was not scheduled and now it is scheduled by the caller.
+	 */
+	boolean scheduleEvent() {
+		return EVENT_SCHEDULED_UPDATER.compareAndSet(this, 0, 1);
+	}
+	
+	void unscheduleEvent() {
+		eventScheduled = 0;
 	}
 	
-	boolean isWritable() {
-		return (isOpen() || isPaused()) && selectionKey.isValid() && selectionKey.isWritable();
+	boolean isReadReady() {
+		SelectionKey key = getSelectionKey();
+		return isOpen() && key.isValid() && key.isReadable();
+	}
+	
+	boolean isWriteReady() {
+		SelectionKey key = getSelectionKey();
+		return (isOpen() || isPaused()) && key.isValid() && key.isWritable();
+	}
+	
+	/**
+	 * Accumulate queued bytes, channel becomes unwritable if queued bytes exceed the high water mark.
+	 * 
+	 * @param bytes
+	 */
+	void incrementWriteBufferBytes(long bytes) {
+		if (writeBufferHighWaterMark <= 0) {
+			return;
+		}
+		
+		long size = WRITE_BUFFER_BYTES_UPDATER.addAndGet(this, bytes);
+		if (size > writeBufferHighWaterMark && writable) {
+			// check again in lock, the queued bytes may be flushed by processor at the same time. 
+			synchronized (lock) {
+				if (writeBufferBytes > writeBufferHighWaterMark) {
+					writable = false;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Deduct flushed bytes, channel becomes writable again if queued bytes drop to the low water mark.
+	 * 
+	 * @param bytes
+	 */
+	void decrementWriteBufferBytes(long bytes) {
+		if (writeBufferHighWaterMark <= 0) {
+			return;
+		}
+		
+		long size = WRITE_BUFFER_BYTES_UPDATER.addAndGet(this, -bytes);
+		if (size <= writeBufferLowWaterMark && !writable) {
+			synchronized (lock) {
+				if (writeBufferBytes <= writeBufferLowWaterMark) {
+					writable = true;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Only invoked by processor thread, writability changes between two invocations are coalesced.
+	 * 
+	 * @return <tt>true</tt> if writability is different from the last notified one.
+	 */
+	boolean writabilityChanged() {
+		boolean w = writable;
+		if (w == writableNotified) {
+			return false;
+		}
+		
+		writableNotified = w;
+		return true;
 	}
 	
 	NioBufferSizePredictor getPredictor() {
 		return predictor;
 	}
+	
+	/**
+	 * Update the predictor by actual read bytes, only invoked by processor thread.
+	 * Idle compact channels share a stateless predictor, a channel gets its own one once a read fills the predicted buffer,
+	 * and goes back to the shared one once its own prediction shrinks to the shared size.
+	 * 
+	 * @param readBytes
+	 */
+	void predict(int readBytes) {
+		NioBufferSizePredictor p = predictor;
+		if (p instanceof NioSharedBufferSizePredictor) {
+			if (readBytes < p.next()) {
+				return;
+			}
+			
+			p = reactor.predictorFactory.newPredictor(minReadBufferSize, defaultReadBufferSize, maxReadBufferSize);
+			predictor = p;
+		}
+		p.previous(readBytes);
+		
+		// only a compact channel has a shared predictor to go back to.
+		NioBufferSizePredictor shared = reactor.getSharedPredictor();
+		if (shared != null && readBytes < shared.next() && p.next() <= shared.next()) {
+			predictor = shared;
+		}
+	}
+	
+	/**
+	 * @return the processor this channel is on, tasks executed or scheduled on it run in the same thread as the events of this channel.
+	 */
+	public NioProcessor getProcessor() {
+		return processor;
+	}
+	
+	/**
+	 * @return the reactor created this channel, processors shared by several reactors fire events to its handler.
+	 */
+	NioReactor getReactor() {
+		return reactor;
+	}
+	
+	void setReactor(NioReactor reactor) {
+		this.reactor = reactor;
+	}
+	
+	IoHandler getHandler() {
+		return reactor.handler;
+	}
+	
+	void setLastReadTime(long lastReadTime) {
+		this.lastReadTime = lastReadTime;
+	}
+	
+	void setLastWriteTime(long lastWriteTime) {
+		this.lastWriteTime = lastWriteTime;
+	}
+	
+	/**
+	 * Only invoked by the processor thread which owns the channel, lazy set is enough for the single writer.
+	 * 
+	 * @param bytes
+	 */
+	void countIo(long bytes) {
+		IO_BYTES_UPDATER.lazySet(this, ioBytes + bytes);
+	}
+	
+	/**
+	 * Only invoked by the processor thread which owns the channel, at the same interval as the processor samples its own rates.
+	 * 
+	 * @param elapsed milliseconds since last sample.
+	 */
+	void sampleIoRate(long elapsed) {
+		long bytes    = ioBytes;
+		ioRate        = (bytes - ioBytesSample) * 1000 / elapsed;
+		ioBytesSample = bytes;
+	}
+	
+	/**
+	 * @return I/O bytes per second of the last sampling interval.
+	 */
+	long ioRate() {
+		return ioRate;
+	}
 
 	
 	// ~ ------------------------------------------------------------------------------------------------------------
@@ -208,8 +647,44 @@ abstract public class NioByteChannel extends AbstractIoByteChannel {
 	protected void close0() throws IOException { /* override this */ }
 	protected int readTcp(ByteBuffer buf) throws IOException { return 0; /* override this */ }
 	protected int writeTcp(ByteBuffer buf) throws IOException { return 0; /* override this */ }
+	protected long writeTcp(ByteBuffer[] bufs, int offset, int length) throws IOException { return 0; /* override this */ }
+	protected long transferTcp(FileChannel file, long position, long count) throws IOException { return 0; /* override this */ }
 	protected int writeUdp(ByteBuffer buf, SocketAddress target) throws IOException { return 0; /* override */ }
 	protected SocketAddress readUdp(ByteBuffer buf) throws IOException { return null; /* override this */ }
 	abstract protected SelectableChannel innerChannel();
 	
+	
+	// ~ ------------------------------------------------------------------------------------------------------------
+	
+	
+	/** Place holder of queues not created yet, nothing can be added to it. */
+	private static class EmptyQueue extends AbstractQueue<Object> {
+		
+		@Override
+		public boolean offer(Object e) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object poll() {
+			return null;
+		}
+
+		@Override
+		public Object peek() {
+			return null;
+		}
+
+		@Override
+		public Iterator<Object> iterator() {
+			return Collections.emptyList().iterator();
+		}
+
+		@Override
+		public int size() {
+			return 0;
+		}
+		
+	}
+	
 }
@@ -0,0 +1,20 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.nio.spi.NioProcessorPicker;
+import lombok.ToString;
+
+/**
+ * A {@link NioProcessorPicker} picks processor by channel id modulo pool size, it is the default picker.
+ * 
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString
+public class NioChannelIdProcessorPicker implements NioProcessorPicker {
+
+	@Override
+	public NioProcessor pick(NioProcessor[] processors, NioByteChannel channel) {
+		return processors[Math.abs((int) (channel.getId() % processors.length))];
+	}
+
+}
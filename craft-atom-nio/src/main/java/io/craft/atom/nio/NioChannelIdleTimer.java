@@ -1,13 +1,10 @@
 package io.craft.atom.nio;
 
 import io.craft.atom.io.ChannelEventType;
-import io.craft.atom.io.IoHandler;
-import io.craft.atom.nio.spi.NioChannelEventDispatcher;
-import io.craft.atom.util.schedule.ExpirationListener;
-import io.craft.atom.util.schedule.TimingWheel;
+import io.craft.atom.io.IoIdleHandler;
 
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 import lombok.ToString;
 
@@ -15,75 +12,194 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Nio channel idle timer
- * 
+ * Nio channel idle timer, detects read idle, write idle and all idle channels lazily.
+ * <p>
+ * Each processor owns a timer and only its process thread accesses it, so it needs no lock.
+ * A channel is put into a bucket of the hashed wheel by its nearest idle deadline,
+ * once the bucket expires the channel is checked against its last read and write time, then put back by its next deadline.
+ * So an active channel is checked about once per timeout instead of once per tick,
+ * and the cost of a tick is proportional to the channels due in it. Closed channels are dropped lazily when their bucket expires.
+ *
  * @author mindwind
  * @version 1.0, Feb 27, 2013
  */
-@ToString(of = { "timingWheel", "timeoutInMillis" })
+@ToString(of = { "allIdleTimeout", "readIdleTimeout", "writeIdleTimeout", "tickDuration", "size" })
 public class NioChannelIdleTimer {
-	
-	
-	private static final Logger LOG      = LoggerFactory.getLogger(NioChannelIdleTimer.class); 
 
 
-	private TimingWheel<NioByteChannel> timingWheel    ;
-	private NioChannelEventDispatcher   dispatcher     ;
-	private IoHandler                   handler        ;
-	private int                         timeoutInMillis;
-	
-	
+	private static final Logger LOG        = LoggerFactory.getLogger(NioChannelIdleTimer.class);
+	private static final int    WHEEL_SIZE = 512                                               ;
+	private static final int    MASK       = WHEEL_SIZE - 1                                    ;
+
+
+	private final long                       allIdleTimeout                            ;
+	private final long                       readIdleTimeout                           ;
+	private final long                       writeIdleTimeout                          ;
+	private final long                       tickDuration                              ;
+	private final List<List<NioByteChannel>> wheel   = new ArrayList<List<NioByteChannel>>();
+	private final List<NioByteChannel>       due     = new ArrayList<NioByteChannel>()      ;
+	private       long                       tick                                      ;
+	private       int                        size                                      ;
+
+
 	// ~ -------------------------------------------------------------------------------------------------------------
-	
-	
-	NioChannelIdleTimer(NioChannelEventDispatcher dispatcher, IoHandler handler, int timeoutInMillis) {
-		this.dispatcher      = dispatcher;
-		this.handler         = handler;
-		this.timeoutInMillis = timeoutInMillis;
-		if (timeoutInMillis > 0) {
-			int tickDuration = (timeoutInMillis / 100 == 0 ? 10 : timeoutInMillis / 100 );
-			this.timingWheel = new TimingWheel<NioByteChannel>(tickDuration, 100, TimeUnit.MILLISECONDS);
-			this.timingWheel.addExpirationListener(new NioChannelIdleListener());
-			this.timingWheel.start();
+
+
+	NioChannelIdleTimer(NioConfig config) {
+		this.allIdleTimeout   = Math.max(config.getIoTimeoutInMillis(), 0);
+		this.readIdleTimeout  = config.getReadIdleTimeoutInMillis();
+		this.writeIdleTimeout = config.getWriteIdleTimeoutInMillis();
+
+		long min = Long.MAX_VALUE;
+		if (allIdleTimeout   > 0) { min = Math.min(min, allIdleTimeout);   }
+		if (readIdleTimeout  > 0) { min = Math.min(min, readIdleTimeout);  }
+		if (writeIdleTimeout > 0) { min = Math.min(min, writeIdleTimeout); }
+		this.tickDuration = (min == Long.MAX_VALUE ? 0 : Math.max(min / 100, 10));
+		this.tick         = (tickDuration == 0 ? 0 : System.currentTimeMillis() / tickDuration);
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.add(new ArrayList<NioByteChannel>(0));
 		}
 	}
-	
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * @return <tt>true</tt> if any idle timeout is configured.
+	 */
+	boolean isEnabled() {
+		return tickDuration > 0;
+	}
+
+	/**
+	 * @return tick duration in milliseconds, the max delay of idle events.
+	 */
+	long tickDuration() {
+		return tickDuration;
+	}
+
+	/**
+	 * @return count of channels scheduled in this timer.
+	 */
+	int size() {
+		return size;
+	}
+
 	void add(NioByteChannel channel) {
-		timingWheel.add(channel);
+		if (!isEnabled() || channel.idleTimer == this) {
+			return;
+		}
+
+		channel.idleTimer = this;
+		size++;
+		schedule(channel, nextDeadline(channel));
 	}
-	
+
 	void remove(NioByteChannel channel) {
-		timingWheel.remove(channel);
+		if (channel.idleTimer != this) {
+			return;
+		}
+
+		// the entry in wheel is dropped when its bucket expires.
+		channel.idleTimer = null;
+		size--;
 	}
-	
-	Set<NioByteChannel> aliveChannels() {
-		return timingWheel.elements();
+
+	/**
+	 * Expire all the buckets up to now, fire idle events of due channels and schedule them again.
+	 *
+	 * @param now
+	 */
+	void expire(long now) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		long target = now / tickDuration;
+		if (target <= tick) {
+			return;
+		}
+
+		// at most one round is enough, a bucket holds channels of all the rounds.
+		long last = Math.min(target, tick + WHEEL_SIZE);
+		for (long t = tick + 1; t <= last; t++) {
+			collect(wheel.get((int) (t & MASK)), target);
+		}
+		tick = target;
+
+		for (int i = 0; i < due.size(); i++) {
+			NioByteChannel channel = due.get(i);
+			if (channel.idleTick > target) {
+				// a duplicated entry of the channel has been processed in this expiration.
+				continue;
+			}
+			check(channel, now);
+			schedule(channel, nextDeadline(channel));
+		}
+		due.clear();
 	}
-	
-	private void fireChannelIdle(NioByteChannel channel) {
-    	dispatcher.dispatch(new NioByteChannelEvent(ChannelEventType.CHANNEL_IDLE, channel, handler));
-    }
-	
-	
-	// ~ -------------------------------------------------------------------------------------------------------------
-	
-	
-	private class NioChannelIdleListener implements ExpirationListener<NioByteChannel> {
-
-		@Override
-		public void expired(NioByteChannel channel) {
-			long now = System.currentTimeMillis();
-			long elapse = now - channel.getLastIoTime();
-			if (elapse > timeoutInMillis) {
-				fireChannelIdle(channel);
+
+	private void collect(List<NioByteChannel> bucket, long target) {
+		for (int i = 0; i < bucket.size();) {
+			NioByteChannel channel = bucket.get(i);
+			boolean stale = (channel.idleTimer != this || !channel.isValid());
+			if (!stale && channel.idleTick > target) {
+				// due in later round
+				i++;
+				continue;
 			}
-			if (channel.isValid()) {
-				timingWheel.add(channel);
+
+			// swap remove, order in a bucket does not matter
+			int lastIdx = bucket.size() - 1;
+			bucket.set(i, bucket.get(lastIdx));
+			bucket.remove(lastIdx);
+			if (!stale) {
+				due.add(channel);
 			}
-			
-			LOG.info("[CRAFT-ATOM-NIO] Nio active channel count is |{}|", timingWheel.size());
 		}
-		
 	}
-	
+
+	private void schedule(NioByteChannel channel, long deadline) {
+		long t = (deadline + tickDuration - 1) / tickDuration;
+		if (t <= tick) {
+			t = tick + 1;
+		}
+		channel.idleTick = t;
+		wheel.get((int) (t & MASK)).add(channel);
+	}
+
+	private void check(NioByteChannel channel, long now) {
+		if (allIdleTimeout > 0 && now - Math.max(channel.getLastIoTime(), channel.allIdleTime) >= allIdleTimeout) {
+			channel.allIdleTime = now;
+			fireChannelIdle(channel, ChannelEventType.CHANNEL_IDLE);
+		}
+		if (readIdleTimeout > 0 && now - Math.max(channel.getLastReadTime(), channel.readIdleTime) >= readIdleTimeout) {
+			channel.readIdleTime = now;
+			fireChannelIdle(channel, ChannelEventType.CHANNEL_READ_IDLE);
+		}
+		if (writeIdleTimeout > 0 && now - Math.max(channel.getLastWriteTime(), channel.writeIdleTime) >= writeIdleTimeout) {
+			channel.writeIdleTime = now;
+			fireChannelIdle(channel, ChannelEventType.CHANNEL_WRITE_IDLE);
+		}
+	}
+
+	private long nextDeadline(NioByteChannel channel) {
+		long deadline = Long.MAX_VALUE;
+		if (allIdleTimeout   > 0) { deadline = Math.min(deadline, Math.max(channel.getLastIoTime(),    channel.allIdleTime)   + allIdleTimeout);   }
+		if (readIdleTimeout  > 0) { deadline = Math.min(deadline, Math.max(channel.getLastReadTime(),  channel.readIdleTime)  + readIdleTimeout);  }
+		if (writeIdleTimeout > 0) { deadline = Math.min(deadline, Math.max(channel.getLastWriteTime(), channel.writeIdleTime) + writeIdleTimeout); }
+		return deadline;
+	}
+
+	private void fireChannelIdle(NioByteChannel channel, ChannelEventType type) {
+		// read and write idle events are fired only to the handler which opts in them.
+		if (type != ChannelEventType.CHANNEL_IDLE && !(channel.getHandler() instanceof IoIdleHandler)) {
+			return;
+		}
+		
+		LOG.debug("[CRAFT-ATOM-NIO] Fire idle event |type={}, channel={}|", type, channel);
+		NioByteChannelEvent.dispatch(type, channel, null);
+    }
+
 }
@@ -0,0 +1,126 @@
+package io.craft.atom.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import lombok.ToString;
+
+/**
+ * Buffers of one composite message queued to be written to a channel, it takes a single entry of the write buffer queue
+ * so the buffers are never interleaved with other writes, and they are flushed by gathering write without concatenation.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString(of = { "offset" })
+class NioCompositeBuffer {
+
+
+	/** Place holder of a composite buffer in write buffer queue, it has nothing remaining. */
+	static final ByteBuffer MARKER = ByteBuffer.allocate(0);
+
+
+	private final ByteBuffer[] buffers;
+	private       int          offset ;
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	NioCompositeBuffer(ByteBuffer[] buffers) {
+		this.buffers = buffers;
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * Write at most max bytes of the remaining buffers to the channel by a gathering write.
+	 *
+	 * @param channel
+	 * @param max
+	 * @return written bytes, it may be 0 if kernel buffer is full.
+	 * @throws IOException
+	 */
+	long writeTo(NioByteChannel channel, long max) throws IOException {
+		skip();
+		int  n        = 0;
+		int  oldLimit = -1;
+		long qota     = max;
+		while (offset + n < buffers.length && qota > 0) {
+			ByteBuffer buf = buffers[offset + n++];
+			if (buf.remaining() > qota) {
+				oldLimit = buf.limit();
+				buf.limit(buf.position() + (int) qota);
+			}
+			qota -= buf.remaining();
+		}
+
+		try {
+			return (n == 0 ? 0 : channel.writeTcp(buffers, offset, n));
+		} finally {
+			if (oldLimit >= 0) { buffers[offset + n - 1].limit(oldLimit); }
+			skip();
+		}
+	}
+
+	/**
+	 * Copy the remaining buffers to the array from the index, they are gathered with other queued buffers in one write.
+	 *
+	 * @param array
+	 * @param index
+	 * @return count of copied buffers, or <tt>-1</tt> if the array has not enough room for them.
+	 */
+	int gather(ByteBuffer[] array, int index) {
+		skip();
+		int n = buffers.length - offset;
+		if (index + n > array.length) {
+			return -1;
+		}
+
+		System.arraycopy(buffers, offset, array, index, n);
+		return n;
+	}
+
+	long remaining() {
+		long remaining = 0;
+		for (int i = offset; i < buffers.length; i++) {
+			remaining += buffers[i].remaining();
+		}
+		return remaining;
+	}
+
+	boolean hasRemaining() {
+		skip();
+		return offset < buffers.length;
+	}
+
+	/**
+	 * @return bytes of the whole message, for flush and written events.
+	 */
+	byte[] toBytes() {
+		int size = 0;
+		for (ByteBuffer buf : buffers) {
+			size += buf.capacity();
+		}
+
+		byte[] bytes = new byte[size];
+		int pos = 0;
+		for (ByteBuffer buf : buffers) {
+			ByteBuffer dup = buf.duplicate();
+			dup.clear();
+			int len = dup.remaining();
+			dup.get(bytes, pos, len);
+			pos += len;
+		}
+		return bytes;
+	}
+
+	private void skip() {
+		while (offset < buffers.length && !buffers[offset].hasRemaining()) {
+			offset++;
+		}
+	}
+
+}
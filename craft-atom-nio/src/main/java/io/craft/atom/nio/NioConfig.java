@@ -1,6 +1,12 @@
 package io.craft.atom.nio;
 
+import io.craft.atom.io.ChannelEventType;
 import io.craft.atom.io.IoConfig;
+import io.craft.atom.nio.spi.NioProcessorPicker;
+
+import java.util.EnumSet;
+import java.util.Set;
+
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -12,15 +18,31 @@ import lombok.ToString;
  * @author mindwind
  * @version 1.0, Feb 21, 2013
  */
-@ToString(callSuper = true, of = { "processorPoolSize", "executorSize", "readWritefair", "channelEventSize", "totalEventSize" })
+@ToString(callSuper = true, of = { "processorPoolSize", "executorSize", "readWritefair", "channelEventSize", "totalEventSize", "gatheringWriteSize", "writeBufferHighWaterMark", "writeBufferLowWaterMark", "optimizedSelector", "processorPicker", "rebalanceIntervalInMillis", "readQuota", "readSpinCount", "processTimeBudgetInMillis", "readIdleTimeoutInMillis", "writeIdleTimeoutInMillis", "clockResolutionInMillis", "udpPeerSize", "udpPeerIdleTimeoutInMillis", "ignoredEventTypes", "compactChannel" })
 abstract public class NioConfig extends IoConfig {
 
 	
-	@Getter         protected int     processorPoolSize = Runtime.getRuntime().availableProcessors();
-	@Getter @Setter protected int     executorSize      = processorPoolSize << 3                    ;
-	@Getter @Setter protected boolean readWritefair     = true                                      ;
-	@Getter         protected int     channelEventSize  = Integer.MAX_VALUE                         ;
-	@Getter         protected int     totalEventSize    = Integer.MAX_VALUE                         ;
+	@Getter         protected int                   processorPoolSize          = Runtime.getRuntime().availableProcessors();
+	@Getter @Setter protected int                   executorSize               = processorPoolSize << 3                    ;
+	@Getter @Setter protected boolean               readWritefair              = true                                      ;
+	@Getter         protected int                   channelEventSize           = Integer.MAX_VALUE                         ;
+	@Getter         protected int                   totalEventSize             = Integer.MAX_VALUE                         ;
+	@Getter         protected int                   gatheringWriteSize         = 0                                         ;
+	@Getter         protected int                   writeBufferHighWaterMark   = 0                                         ;
+	@Getter         protected int                   writeBufferLowWaterMark    = 0                                         ;
+	@Getter @Setter protected boolean               optimizedSelector          = false                                     ;
+	@Getter @Setter protected NioProcessorPicker    processorPicker            = new NioChannelIdProcessorPicker()         ;
+	@Getter         protected int                   rebalanceIntervalInMillis  = 0                                         ;
+	@Getter         protected int                   readQuota                  = 0                                         ;
+	@Getter         protected int                   readSpinCount              = 16                                        ;
+	@Getter         protected int                   processTimeBudgetInMillis  = 0                                         ;
+	@Getter         protected int                   readIdleTimeoutInMillis    = 0                                         ;
+	@Getter         protected int                   writeIdleTimeoutInMillis   = 0                                         ;
+	@Getter         protected int                   clockResolutionInMillis    = 0                                         ;
+	@Getter         protected int                   udpPeerSize                = 65536                                     ;
+	@Getter         protected int                   udpPeerIdleTimeoutInMillis = 120 * 1000                                ;
+	@Getter         protected Set<ChannelEventType> ignoredEventTypes          = EnumSet.noneOf(ChannelEventType.class)    ;
+	@Getter @Setter protected boolean               compactChannel             = false                                     ;
 	
 	
 	// ~ -------------------------------------------------------------------------------------------------------------
@@ -50,4 +72,198 @@ abstract public class NioConfig extends IoConfig {
 		this.totalEventSize = totalEventSize;
 	}
 	
+	/**
+	 * Set max buffer count of one gathering write, TCP channel flushes queued buffers with one vectored write.
+	 * Less than 2 means disable gathering write.
+	 * 
+	 * @param gatheringWriteSize
+	 */
+	public void setGatheringWriteSize(int gatheringWriteSize) {
+		if (gatheringWriteSize < 2) {
+			gatheringWriteSize = 0;
+		}
+		
+		this.gatheringWriteSize = gatheringWriteSize;
+	}
+	
+	/**
+	 * Set high water mark of channel write buffer in bytes, channel becomes unwritable once queued bytes exceed it.
+	 * Less than 1 means disable water mark, channel is always writable.
+	 * 
+	 * @param writeBufferHighWaterMark
+	 */
+	public void setWriteBufferHighWaterMark(int writeBufferHighWaterMark) {
+		if (writeBufferHighWaterMark <= 0) {
+			writeBufferHighWaterMark = 0;
+		}
+		
+		this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+		if (writeBufferLowWaterMark > writeBufferHighWaterMark) {
+			writeBufferLowWaterMark = writeBufferHighWaterMark;
+		}
+	}
+	
+	/**
+	 * Set low water mark of channel write buffer in bytes, unwritable channel becomes writable again once queued bytes drop to it.
+	 * It can not be greater than high water mark.
+	 * 
+	 * @param writeBufferLowWaterMark
+	 */
+	public void setWriteBufferLowWaterMark(int writeBufferLowWaterMark) {
+		if (writeBufferLowWaterMark < 0) {
+			writeBufferLowWaterMark = 0;
+		}
+		
+		if (writeBufferLowWaterMark > writeBufferHighWaterMark) {
+			throw new IllegalArgumentException("writeBufferLowWaterMark: " + writeBufferLowWaterMark + " (expected: not greater than " + writeBufferHighWaterMark + ')');
+		}
+		
+		this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+	}
+	
+	/**
+	 * Set interval of processor rebalance in milliseconds, the hottest processor migrates a channel to the coldest one 
+	 * if its I/O rate is far above the coldest one.
+	 * Less than 1 means disable rebalance, channel always stays in the processor it is picked.
+	 * 
+	 * @param rebalanceIntervalInMillis
+	 */
+	public void setRebalanceIntervalInMillis(int rebalanceIntervalInMillis) {
+		if (rebalanceIntervalInMillis <= 0) {
+			rebalanceIntervalInMillis = 0;
+		}
+		
+		this.rebalanceIntervalInMillis = rebalanceIntervalInMillis;
+	}
+	
+	/**
+	 * Set max bytes read from one channel per select, so that a bulk channel can not starve the others in the same processor.
+	 * Less than 1 means no quota, a channel reads at most one predicted buffer per select.
+	 * 
+	 * @param readQuota
+	 */
+	public void setReadQuota(int readQuota) {
+		if (readQuota <= 0) {
+			readQuota = 0;
+		}
+		
+		this.readQuota = readQuota;
+	}
+	
+	/**
+	 * Set max read calls on one channel per select.
+	 * Less than 1 means read until the socket has no more bytes or the read buffer is full.
+	 * 
+	 * @param readSpinCount
+	 */
+	public void setReadSpinCount(int readSpinCount) {
+		if (readSpinCount <= 0) {
+			readSpinCount = Integer.MAX_VALUE;
+		}
+		
+		this.readSpinCount = readSpinCount;
+	}
+	
+	/**
+	 * Set time budget in milliseconds of processing selected channels, 
+	 * once it is used up the processor flushes pending writes before processing the rest selected channels.
+	 * Less than 1 means disable it, pending writes are flushed after all selected channels are processed.
+	 * 
+	 * @param processTimeBudgetInMillis
+	 */
+	public void setProcessTimeBudgetInMillis(int processTimeBudgetInMillis) {
+		if (processTimeBudgetInMillis <= 0) {
+			processTimeBudgetInMillis = 0;
+		}
+		
+		this.processTimeBudgetInMillis = processTimeBudgetInMillis;
+	}
+	
+	/**
+	 * Set read idle timeout in milliseconds, channel read idle event is fired to an {@link io.craft.atom.io.IoIdleHandler} if no data is read for the timeout.
+	 * Less than 1 means disable read idle detection.
+	 * 
+	 * @param readIdleTimeoutInMillis
+	 */
+	public void setReadIdleTimeoutInMillis(int readIdleTimeoutInMillis) {
+		if (readIdleTimeoutInMillis <= 0) {
+			readIdleTimeoutInMillis = 0;
+		}
+		
+		this.readIdleTimeoutInMillis = readIdleTimeoutInMillis;
+	}
+	
+	/**
+	 * Set write idle timeout in milliseconds, channel write idle event is fired to an {@link io.craft.atom.io.IoIdleHandler} if no data is written for the timeout.
+	 * Less than 1 means disable write idle detection.
+	 * 
+	 * @param writeIdleTimeoutInMillis
+	 */
+	public void setWriteIdleTimeoutInMillis(int writeIdleTimeoutInMillis) {
+		if (writeIdleTimeoutInMillis <= 0) {
+			writeIdleTimeoutInMillis = 0;
+		}
+		
+		this.writeIdleTimeoutInMillis = writeIdleTimeoutInMillis;
+	}
+	
+	/**
+	 * Set resolution in milliseconds of the coarse clock for I/O timestamps, such as last I/O time used by idle detection.
+	 * Less than 1 means use precise time of {@link System#currentTimeMillis()}.
+	 * 
+	 * @param clockResolutionInMillis
+	 */
+	public void setClockResolutionInMillis(int clockResolutionInMillis) {
+		if (clockResolutionInMillis <= 0) {
+			clockResolutionInMillis = 0;
+		}
+		
+		this.clockResolutionInMillis = clockResolutionInMillis;
+	}
+	
+	/**
+	 * Set max size of udp peers of a bound channel, the least recently read peer is evicted and closed once exceeded.
+	 * Less than 1 means use default value 65536.
+	 * 
+	 * @param udpPeerSize
+	 */
+	public void setUdpPeerSize(int udpPeerSize) {
+		if (udpPeerSize <= 0) {
+			udpPeerSize = 65536;
+		}
+		
+		this.udpPeerSize = udpPeerSize;
+	}
+	
+	/**
+	 * Set idle timeout in milliseconds of udp peers, a peer sends no datagram for the timeout is expired and closed.
+	 * Less than 1 means never expire.
+	 * 
+	 * @param udpPeerIdleTimeoutInMillis
+	 */
+	public void setUdpPeerIdleTimeoutInMillis(int udpPeerIdleTimeoutInMillis) {
+		if (udpPeerIdleTimeoutInMillis <= 0) {
+			udpPeerIdleTimeoutInMillis = 0;
+		}
+		
+		this.udpPeerIdleTimeoutInMillis = udpPeerIdleTimeoutInMillis;
+	}
+	
+	/**
+	 * Set channel event types nobody listens to, the processor skips building and dispatching them.
+	 * Only {@link ChannelEventType#CHANNEL_FLUSH} and {@link ChannelEventType#CHANNEL_WRITTEN} can be ignored, other types are retained.
+	 * <tt>null</tt> means no event is ignored.
+	 * 
+	 * @param ignoredEventTypes
+	 */
+	public void setIgnoredEventTypes(Set<ChannelEventType> ignoredEventTypes) {
+		Set<ChannelEventType> types = EnumSet.noneOf(ChannelEventType.class);
+		if (ignoredEventTypes != null) {
+			types.addAll(ignoredEventTypes);
+			types.retainAll(EnumSet.of(ChannelEventType.CHANNEL_FLUSH, ChannelEventType.CHANNEL_WRITTEN));
+		}
+		
+		this.ignoredEventTypes = types;
+	}
+	
 }
@@ -86,6 +86,20 @@ abstract public class NioConnector extends NioReactor implements IoConnector {
 	 * @param predictorFactory
 	 */
 	public NioConnector(IoHandler handler, NioConnectorConfig config, NioChannelEventDispatcher dispatcher, NioBufferSizePredictorFactory predictorFactory) {
+		this(handler, config, dispatcher, predictorFactory, null);
+	}
+	
+	/**
+	 * Constructs a new connector with the specified configuration, dispatcher and predictor.
+	 * The connector registers onto the shared processor group if it is not <tt>null</tt>, otherwise it creates its own processors.
+	 * 
+	 * @param handler
+	 * @param config
+	 * @param dispatcher
+	 * @param predictorFactory
+	 * @param group
+	 */
+	public NioConnector(IoHandler handler, NioConnectorConfig config, NioChannelEventDispatcher dispatcher, NioBufferSizePredictorFactory predictorFactory, NioProcessorGroup group) {
 		if (handler == null) {
 			throw new IllegalArgumentException("Handler should not be null!");
 		}
@@ -94,7 +108,8 @@ abstract public class NioConnector extends NioReactor implements IoConnector {
 		this.handler = handler;
 		this.dispatcher = dispatcher;
 		this.predictorFactory = predictorFactory;
-		this.pool = new NioProcessorPool(config, handler, dispatcher);
+		this.group = group;
+		this.pool = (group == null ? new NioProcessorPool(this.config) : group.retain());
 		try {
 			init();
 		} catch (IOException e) {
@@ -154,6 +169,13 @@ abstract public class NioConnector extends NioReactor implements IoConnector {
 		this.selector.wakeup();
 	}
 	
+	/**
+	 * Shutdown the dispatcher and processors, it is called after the connector selector is closed.
+	 */
+	protected void shutdownReactor() {
+		super.shutdown();
+	}
+	
 	@Override
 	public IoConnectorX x() {
 		NioConnectorX x = new NioConnectorX();
@@ -0,0 +1,73 @@
+package io.craft.atom.nio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import lombok.ToString;
+
+/**
+ * A region of file queued to be written to a channel, it is flushed by {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}
+ * so the file bytes are not copied through user space.
+ * <p>
+ * The file is owned by the caller, it must be kept open until the region is written and it is not closed by the channel.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString(of = { "position", "count", "transferred" })
+class NioFileRegion {
+
+
+	/** Place holder of a file region in write buffer queue, it has nothing remaining. */
+	static final ByteBuffer MARKER = ByteBuffer.allocate(0);
+
+
+	private final FileChannel file       ;
+	private final long        position   ;
+	private final long        count      ;
+	private       long        transferred;
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	NioFileRegion(FileChannel file, long position, long count) {
+		this.file     = file;
+		this.position = position;
+		this.count    = count;
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * Transfer at most max bytes of the remaining region to the channel.
+	 *
+	 * @param channel
+	 * @param max
+	 * @return transferred bytes, it may be 0 if kernel buffer is full.
+	 * @throws IOException
+	 */
+	long transferTo(NioByteChannel channel, long max) throws IOException {
+		long pos = position + transferred;
+		long n = channel.transferTcp(file, pos, Math.min(remaining(), max));
+		if (n == 0 && pos >= file.size()) {
+			throw new EOFException("File region is beyond the end of file, |position=" + pos + ", size=" + file.size() + "|");
+		}
+
+		transferred += n;
+		return n;
+	}
+
+	long remaining() {
+		return count - transferred;
+	}
+
+	boolean hasRemaining() {
+		return transferred < count;
+	}
+
+}
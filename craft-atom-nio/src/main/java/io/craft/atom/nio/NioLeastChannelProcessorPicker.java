@@ -0,0 +1,29 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.nio.spi.NioProcessorPicker;
+import lombok.ToString;
+
+/**
+ * A {@link NioProcessorPicker} picks the processor which has the least alive channels.
+ * 
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString
+public class NioLeastChannelProcessorPicker implements NioProcessorPicker {
+
+	@Override
+	public NioProcessor pick(NioProcessor[] processors, NioByteChannel channel) {
+		NioProcessor picked = processors[0];
+		int min = picked.channelCount();
+		for (int i = 1; i < processors.length; i++) {
+			int count = processors[i].channelCount();
+			if (count < min) {
+				min    = count;
+				picked = processors[i];
+			}
+		}
+		return picked;
+	}
+
+}
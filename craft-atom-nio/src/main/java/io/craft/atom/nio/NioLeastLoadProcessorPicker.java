@@ -0,0 +1,80 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.nio.spi.NioProcessorPicker;
+import lombok.ToString;
+
+/**
+ * A {@link NioProcessorPicker} picks the processor which has the least load, the load is the recent I/O bytes per second, 
+ * or I/O events per second if configured, plus the channels added since the last sample weighted by the average rate per sampled channel of the pool.
+ * The rates are sampled by each processor about once per second, so the channels picked within a sample window have not shown their traffic yet,
+ * weighting them keeps a burst of new channels from herding onto the processor which was quiet in the last sample.
+ * Ties are broken by the count of alive channels.
+ * <p>
+ * It suits long-lived connections with uneven traffic, such as multiplexed rpc connections.
+ * Events per second suits traffic of many small messages, where the cost is dominated by per event processing rather than bytes.
+ * 
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString
+public class NioLeastLoadProcessorPicker implements NioProcessorPicker {
+	
+	
+	private final boolean eventRate;
+	
+	
+	// ~ -------------------------------------------------------------------------------------------------------------
+	
+	
+	public NioLeastLoadProcessorPicker() {
+		this(false);
+	}
+	
+	/**
+	 * @param eventRate <tt>true</tt> to compare I/O events per second, otherwise I/O bytes per second.
+	 */
+	public NioLeastLoadProcessorPicker(boolean eventRate) {
+		this.eventRate = eventRate;
+	}
+	
+	
+	// ~ -------------------------------------------------------------------------------------------------------------
+	
+
+	@Override
+	public NioProcessor pick(NioProcessor[] processors, NioByteChannel channel) {
+		int    n      = processors.length;
+		long[] rates   = new long[n];
+		int[]  counts  = new int[n];
+		int[]  pending = new int[n];
+		long   total   = 0;
+		long   sampled = 0;
+		for (int i = 0; i < n; i++) {
+			int s      = processors[i].sampledChannelCount();
+			rates[i]   = rate(processors[i]);
+			counts[i]  = processors[i].channelCount();
+			pending[i] = Math.max(0, counts[i] - s);
+			total     += rates[i];
+			sampled   += s;
+		}
+		
+		// a channel is assumed to bring the average rate until its traffic is sampled, an idle pool has no rate to weight so it picks the least channels.
+		int[] weighted = (total > 0 ? pending : counts);
+		long  unit     = Math.max(1, total / Math.max(1, sampled));
+		int   picked   = 0;
+		long  minLoad  = rates[0] + unit * weighted[0];
+		for (int i = 1; i < n; i++) {
+			long load = rates[i] + unit * weighted[i];
+			if (load < minLoad || (load == minLoad && counts[i] < counts[picked])) {
+				minLoad = load;
+				picked  = i;
+			}
+		}
+		return processors[picked];
+	}
+	
+	private long rate(NioProcessor processor) {
+		return (eventRate ? processor.ioEventRate() : processor.ioRate());
+	}
+
+}
@@ -121,7 +121,7 @@ public class NioOrderedThreadPoolChannelEventDispatcher extends AbstractNioChann
 					channel.setEventProcessing(false);
 					
 					// if remaining events, so re-insert to channel queue
-					if (channel.getEventQueue().size() > 0 && !channel.isEventProcessing()) {
+					if (!channel.getEventQueue().isEmpty() && !channel.isEventProcessing()) {
 						channelQueue.offer(channel);
 					}
 				}
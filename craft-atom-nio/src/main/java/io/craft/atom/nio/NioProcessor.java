@@ -1,11 +1,13 @@
 package io.craft.atom.nio;
 
 import io.craft.atom.io.ChannelEventType;
-import io.craft.atom.io.IoHandler;
 import io.craft.atom.io.IoProcessor;
 import io.craft.atom.io.IoProcessorX;
 import io.craft.atom.io.IoProtocol;
-import io.craft.atom.nio.spi.NioChannelEventDispatcher;
+import io.craft.atom.io.IoWritabilityHandler;
+import io.craft.atom.nio.spi.NioReadBufferHandler;
+import io.craft.atom.util.queue.MpscLinkedQueue;
+import io.craft.atom.util.schedule.CoarseClock;
 import io.craft.atom.util.thread.NamedThreadFactory;
 
 import java.io.IOException;
@@ -16,15 +18,20 @@ import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
 
 import lombok.ToString;
@@ -44,37 +51,92 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 	
 	
 	private static final Logger LOG              = LoggerFactory.getLogger(NioProcessor.class);
-	private static final long   FLUSH_SPIN_COUNT = 256                                        ;
+	private static final int    FLUSH_SPIN_COUNT = 256                                        ;
+	private static final int    TASK_SPIN_COUNT  = 256                                        ;
 	private static final long   SELECT_TIMEOUT   = 1000L                                      ;
+	private static final int    SPIN_THRESHOLD   = 512                                        ;
+	private static final long   RATE_INTERVAL    = 1000L                                      ;
+	private static final long   UDP_EXPIRE_CAP   = 1000L                                      ;
+	private static final int    PURGE_THRESHOLD  = 256                                        ;
 	
 	
-	private final    Queue<NioByteChannel>          newChannels       = new ConcurrentLinkedQueue<NioByteChannel>()    ;
-    private final    Queue<NioByteChannel>          flushingChannels  = new ConcurrentLinkedQueue<NioByteChannel>()    ;
-    private final    Queue<NioByteChannel>          closingChannels   = new ConcurrentLinkedQueue<NioByteChannel>()    ;
-    private final    Map<String, NioByteChannel>    udpChannels       = new ConcurrentHashMap<String, NioByteChannel>();
-    private final    AtomicReference<ProcessThread> processThreadRef  = new AtomicReference<ProcessThread>()           ;
-    private final    NioByteBufferAllocator         allocator         = new NioByteBufferAllocator()                   ;
-    private final    AtomicBoolean                  wakeupCalled      = new AtomicBoolean(false)                       ;
-    private final    NioChannelIdleTimer            idleTimer                                                          ;
-    private final    NioConfig                      config                                                             ;
-    private final    Executor                       executor                                                           ;
-    private          IoProtocol                     protocol                                                           ;
-    private volatile Selector                       selector                                                           ;
-    private volatile boolean                        shutdown          = false                                          ;                                         
+	private static final AtomicLongFieldUpdater<NioProcessor> IO_BYTES_UPDATER  = AtomicLongFieldUpdater.newUpdater(NioProcessor.class, "ioBytes") ;
+	private static final AtomicLongFieldUpdater<NioProcessor> IO_EVENTS_UPDATER = AtomicLongFieldUpdater.newUpdater(NioProcessor.class, "ioEvents");
+	
+	
+	private final    MpscLinkedQueue<NioByteChannel> newChannels      = new MpscLinkedQueue<NioByteChannel>()          ;
+    private final    MpscLinkedQueue<NioByteChannel> flushingChannels = new MpscLinkedQueue<NioByteChannel>()          ;
+    private final    MpscLinkedQueue<NioByteChannel> closingChannels  = new MpscLinkedQueue<NioByteChannel>()          ;
+    private final    MpscLinkedQueue<NioByteChannel> interestChannels = new MpscLinkedQueue<NioByteChannel>()          ;
+    private final    MpscLinkedQueue<NioByteChannel> adoptedChannels  = new MpscLinkedQueue<NioByteChannel>()          ;
+    private final    MpscLinkedQueue<NioReactor>     closingReactors  = new MpscLinkedQueue<NioReactor>()              ;
+    private final    MpscLinkedQueue<Runnable>       tasks            = new MpscLinkedQueue<Runnable>()                ;
+    private final    PriorityQueue<NioScheduledTask> scheduledTasks   = new PriorityQueue<NioScheduledTask>()          ;
+    private final    AtomicLong                      taskSequence     = new AtomicLong()                               ;
+    private final    AtomicInteger                   cancelledTasks   = new AtomicInteger()                            ;
+    private final    List<NioByteChannel>            flushBatch       = new ArrayList<NioByteChannel>(FLUSH_SPIN_COUNT);
+    private final    List<NioUdpByteChannel>         udpChannels      = new ArrayList<NioUdpByteChannel>()             ;
+    private final    AtomicReference<ProcessThread>  processThreadRef = new AtomicReference<ProcessThread>()           ;
+    private final    NioByteBufferAllocator          allocator        = new NioByteBufferAllocator()                   ;
+    private final    NioByteBufferPool               bufferPool                                                        ;
+    private final    ByteBuffer[]                    gatheringBuffers                                                  ;
+    private final    boolean                         writeThrough                                                      ;
+    private final    int                             readQuota                                                         ;
+    private final    int                             readSpinCount                                                     ;
+    private final    long                            processTimeBudget                                                 ;
+    private final    boolean                         flushEventEnabled                                                 ;
+    private final    boolean                         writtenEventEnabled                                               ;
+    private final    int                             udpPeerSize                                                       ;
+    private final    long                            udpPeerIdleTimeout                                                ;
+    private final    long                            udpExpireInterval                                                 ;
+    private          long                            udpExpireTime                                                     ;
+    private final    AtomicBoolean                   wakeupCalled     = new AtomicBoolean(false)                       ;
+    private final    NioChannelIdleTimer             idleTimer                                                         ;
+    private final    CoarseClock                     clock                                                             ;
+    private final    NioConfig                       config                                                            ;
+    private final    Executor                        executor                                                          ;
+    private          IoProtocol                      protocol                                                          ;
+    private volatile Selector                        selector                                                          ;
+    private          NioSelectedKeySet               selectedKeys                                                      ;
+    private          int                             spinCount                                                         ;
+    private          long                            spinStartTime                                                     ;
+    private volatile Thread                          ioThread                                                          ;
+    private final    AtomicInteger                   channelCount     = new AtomicInteger(0)                           ;
+    private volatile long                            ioBytes                                                           ;
+    private volatile long                            ioEvents                                                          ;
+    private volatile long                            ioRate                                                            ;
+    private volatile long                            ioEventRate                                                       ;
+    private          long                            rateSampleTime   = System.currentTimeMillis()                     ;
+    private          long                            rateSampleBytes                                                   ;
+    private          long                            rateSampleEvents                                                  ;
+    private volatile int                             rateSampleChannels                                                ;
+    private volatile NioProcessor                    shedTarget                                                        ;
+    private volatile long                            shedRate                                                          ;
+    private volatile boolean                         shutdown         = false                                          ;
     
     
 	// ~ ------------------------------------------------------------------------------------------------------------
     
     
-    NioProcessor(NioConfig config, IoHandler handler, NioChannelEventDispatcher dispatcher, NioChannelIdleTimer idleTimer) {
-		this.config     = config;
-		this.handler    = handler;
-		this.dispatcher = dispatcher;
-		this.idleTimer  = idleTimer;
-		this.executor   = Executors.newCachedThreadPool(new NamedThreadFactory("craft-atom-nio-processor"));
+    NioProcessor(NioConfig config) {
+		this.config              = config;
+		this.idleTimer           = new NioChannelIdleTimer(config);
+		this.clock               = (config.getClockResolutionInMillis() > 0 ? CoarseClock.get(config.getClockResolutionInMillis()) : null);
+		this.executor            = Executors.newCachedThreadPool(new NamedThreadFactory("craft-atom-nio-processor"));
+		this.bufferPool          = new NioByteBufferPool(config.getMaxReadBufferSize());
+		this.gatheringBuffers    = (config.getGatheringWriteSize() > 1 ? new ByteBuffer[config.getGatheringWriteSize()] : null);
+		this.writeThrough        = (config.getTotalEventSize() == Integer.MAX_VALUE);
+		this.readQuota           = config.getReadQuota();
+		this.readSpinCount       = config.getReadSpinCount();
+		this.processTimeBudget   = TimeUnit.MILLISECONDS.toNanos(config.getProcessTimeBudgetInMillis());
+		this.flushEventEnabled   = !config.getIgnoredEventTypes().contains(ChannelEventType.CHANNEL_FLUSH);
+		this.writtenEventEnabled = !config.getIgnoredEventTypes().contains(ChannelEventType.CHANNEL_WRITTEN);
+		this.udpPeerSize         = config.getUdpPeerSize();
+		this.udpPeerIdleTimeout  = config.getUdpPeerIdleTimeoutInMillis();
+		this.udpExpireInterval   = Math.max(Math.min(udpPeerIdleTimeout / 10, UDP_EXPIRE_CAP), 10);
 		
 		try {
-			selector = Selector.open();
+			selector = openSelector();
         } catch (IOException e) {
             throw new RuntimeException("Fail to startup a processor", e);
         }
@@ -99,6 +161,7 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 			return;
 		}
 		
+		channelCount.incrementAndGet();
 		newChannels.add(channel);
 		startup();
         wakeup();
@@ -117,8 +180,222 @@ public class NioProcessor extends NioReactor implements IoProcessor {
     }
 	
 	private void wakeup() {
-		wakeupCalled.getAndSet(true);
-		selector.wakeup();
+		// process thread always checks pending tasks before select, so it need not wake up itself.
+		if (inProcessThread()) {
+			return;
+		}
+		
+		// just the first caller after last select wakes up the selector, the others skip it.
+		if (wakeupCalled.compareAndSet(false, true)) {
+			selector.wakeup();
+		}
+	}
+	
+	boolean inProcessThread() {
+		return Thread.currentThread() == ioThread;
+	}
+	
+	private boolean hasPendingTasks() {
+		return !newChannels.isEmpty() || !adoptedChannels.isEmpty() || !flushingChannels.isEmpty() || !closingChannels.isEmpty() || !interestChannels.isEmpty() || !closingReactors.isEmpty() || !tasks.isEmpty();
+	}
+	
+	/**
+	 * Executes the task in the process thread of this processor, tasks run in submission order.
+	 * State touched only by these tasks and the events fired in the process thread needs no synchronization, 
+	 * e.g. per channel timers of channels on this processor.
+	 * <p>
+	 * Note that a channel may be migrated to another processor to rebalance load, since then its events are fired in the process thread 
+	 * of the new processor while the tasks already scheduled here still run in this thread. State shared by the channel events and such 
+	 * tasks needs synchronization, or the task should check {@link NioByteChannel#getProcessor()} and reschedule itself on the new processor.
+	 * <p>
+	 * A task should be short and must not block, or it delays I/O of all the channels on this processor.
+	 * 
+	 * @param task
+	 * @throws IllegalStateException if the processor is already shutdown.
+	 */
+	public void execute(Runnable task) {
+		if (task == null) {
+			throw new IllegalArgumentException("task is null!");
+		}
+		if (this.shutdown) {
+			throw new IllegalStateException("The processor already shutdown!");
+		}
+		
+		tasks.add(task);
+		startup();
+		wakeup();
+	}
+	
+	/**
+	 * Executes the task once in the process thread of this processor after the delay.
+	 * 
+	 * @param task
+	 * @param delay
+	 * @param unit
+	 * @return the scheduled task, which can be cancelled.
+	 * @throws IllegalStateException if the processor is already shutdown.
+	 */
+	public NioScheduledTask schedule(Runnable task, long delay, TimeUnit unit) {
+		if (task == null) {
+			throw new IllegalArgumentException("task is null!");
+		}
+		
+		return schedule(new NioScheduledTask(this, task, System.nanoTime() + unit.toNanos(Math.max(0, delay)), 0, taskSequence.incrementAndGet()));
+	}
+	
+	/**
+	 * Executes the task periodically in the process thread of this processor, first after the initial delay and then at the fixed rate.
+	 * A missed run is skipped rather than run in a burst, and the task is stopped if it throws an exception.
+	 * 
+	 * @param task
+	 * @param initialDelay
+	 * @param period
+	 * @param unit
+	 * @return the scheduled task, which can be cancelled.
+	 * @throws IllegalStateException if the processor is already shutdown.
+	 */
+	public NioScheduledTask scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+		if (task == null) {
+			throw new IllegalArgumentException("task is null!");
+		}
+		if (period <= 0) {
+			throw new IllegalArgumentException("period should be positive!");
+		}
+		
+		return schedule(new NioScheduledTask(this, task, System.nanoTime() + unit.toNanos(Math.max(0, initialDelay)), unit.toNanos(period), taskSequence.incrementAndGet()));
+	}
+	
+	private NioScheduledTask schedule(final NioScheduledTask st) {
+		if (inProcessThread()) {
+			scheduledTasks.add(st);
+			return st;
+		}
+		
+		// the heap is owned by the process thread, hand the task over to it.
+		execute(new Runnable() {
+			@Override
+			public void run() {
+				if (st.isCancelled()) {
+					cancelledTasks.decrementAndGet();
+					return;
+				}
+				scheduledTasks.add(st);
+			}
+		});
+		return st;
+	}
+	
+	/**
+	 * Count the cancelled task, it is purged from the heap by process thread later.
+	 * 
+	 * @param st
+	 */
+	void cancelled(NioScheduledTask st) {
+		cancelledTasks.incrementAndGet();
+	}
+	
+	/**
+	 * Only invoked by process thread.
+	 * 
+	 * @return count of tasks in the heap, including the cancelled ones not purged yet.
+	 */
+	int scheduledTaskCount() {
+		return scheduledTasks.size();
+	}
+	
+	/**
+	 * Purge cancelled tasks from the heap once they exceed the threshold and outnumber half of the heap, 
+	 * so the heap retains at most about as many cancelled tasks as live ones and a purge costs amortized constant time per cancel.
+	 */
+	private void purge() {
+		int cancelled = cancelledTasks.get();
+		if (cancelled < PURGE_THRESHOLD || cancelled < (scheduledTasks.size() >> 1)) {
+			return;
+		}
+		
+		int purged = 0;
+		for (Iterator<NioScheduledTask> it = scheduledTasks.iterator(); it.hasNext();) {
+			if (it.next().isCancelled()) {
+				it.remove();
+				purged++;
+			}
+		}
+		cancelledTasks.addAndGet(-purged);
+	}
+	
+	/**
+	 * Run submitted tasks and due scheduled tasks, at most a batch of submitted tasks per loop so a task resubmitting itself can not starve I/O.
+	 */
+	private void runTasks() {
+		Runnable task = null;
+		for (int i = 0; i < TASK_SPIN_COUNT && (task = tasks.poll()) != null; i++) {
+			run(task);
+		}
+		
+		if (scheduledTasks.isEmpty()) {
+			return;
+		}
+		
+		purge();
+		long now = System.nanoTime();
+		for (NioScheduledTask st = scheduledTasks.peek(); st != null && st.deadline - now <= 0; st = scheduledTasks.peek()) {
+			scheduledTasks.poll();
+			if (st.period == 0) {
+				// a one-shot task can not be cancelled once it is done
+				if (st.setDone()) {
+					run(st.task);
+				} else {
+					cancelledTasks.decrementAndGet();
+				}
+				continue;
+			}
+			
+			if (st.isCancelled()) {
+				cancelledTasks.decrementAndGet();
+				continue;
+			}
+			
+			// a periodic task may be cancelled while it is running, it is out of the heap then.
+			if (!run(st.task)) {
+				if (!st.setDone()) {
+					cancelledTasks.decrementAndGet();
+				}
+				continue;
+			}
+			if (st.isCancelled()) {
+				cancelledTasks.decrementAndGet();
+				continue;
+			}
+			
+			st.deadline += st.period;
+			if (st.deadline - now <= 0) {
+				st.deadline = now + st.period;
+			}
+			scheduledTasks.add(st);
+		}
+	}
+	
+	private boolean run(Runnable task) {
+		try {
+			task.run();
+			return true;
+		} catch (Throwable t) {
+			LOG.warn("[CRAFT-ATOM-NIO] Run task exception, |task={}|", task, t);
+			return false;
+		}
+	}
+	
+	/**
+	 * @return nanoseconds to the nearest deadline of scheduled tasks, or <tt>-1</tt> if there is no scheduled task.
+	 */
+	private long scheduleDelay() {
+		// cancelled tasks at the head never wake up the selector
+		NioScheduledTask st = scheduledTasks.peek();
+		for (; st != null && st.isCancelled(); st = scheduledTasks.peek()) {
+			scheduledTasks.poll();
+			cancelledTasks.decrementAndGet();
+		}
+		return (st == null ? -1 : Math.max(0, st.deadline - System.nanoTime()));
 	}
 	
 	/** 
@@ -133,17 +410,42 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 		// close all the channel within this processor
 		closingChannels.addAll(newChannels);
 		newChannels.clear();
+		closingChannels.addAll(adoptedChannels);
+		adoptedChannels.clear();
 		closingChannels.addAll(flushingChannels);
 		flushingChannels.clear();
+		closeReactors();
 		close();
 		
+		// drop tasks not yet run
+		tasks.clear();
+		scheduledTasks.clear();
+		
 		// close processor selector
 		this.selector.close();
 		LOG.debug("[CRAFT-ATOM-NIO] Shutdown processor successful");
 	}
 	
+	private void closeReactors() {
+		// the channels not yet registered are registered before this in process loop, so all of them are in the key set.
+		for (NioReactor reactor = closingReactors.poll(); reactor != null; reactor = closingReactors.poll()) {
+			for (SelectionKey key : selector.keys()) {
+				NioByteChannel channel = (NioByteChannel) key.attachment();
+				if (channel.getReactor() == reactor) {
+					scheduleClose(channel);
+				}
+			}
+		}
+	}
+	
 	private void close() throws IOException {
 		for (NioByteChannel channel = closingChannels.poll(); channel != null; channel = closingChannels.poll()) {
+			// the channel has been migrated to another processor, let its current processor close it.
+			if (forward(channel)) {
+				channel.getProcessor().remove(channel);
+				continue;
+			}
+			
 			idleTimer.remove(channel);
 			if (channel.isClosed()) {
 				LOG.debug("[CRAFT-ATOM-NIO] Skip close because it is already closed, |channel={}|", channel);
@@ -155,6 +457,10 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 			
 			close(channel);
 			channel.setClosed();
+			channelCount.decrementAndGet();
+			if (channel.getReactor() != null) {
+				channel.getReactor().closed(channel);
+			}
 			
 			// fire channel closed event
 			fireChannelClosed(channel);
@@ -166,9 +472,8 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 		try {
 			channel.close0();
 			
-			if (protocol == IoProtocol.UDP) {
-				String key = udpChannelKey(channel.getLocalAddress(), channel.getRemoteAddress());
-				udpChannels.remove(key);
+			if (channel instanceof NioUdpByteChannel) {
+				removeUdp((NioUdpByteChannel) channel);
 			}
 		} catch (Exception e) {
 			LOG.warn("[CRAFT-ATOM-NIO] Catch close exception and fire it, |channel={}|", channel, e);
@@ -177,35 +482,63 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 	}
 	
 	private int select() throws IOException {
-		long t0 = System.currentTimeMillis();
-		int selected = selector.select(SELECT_TIMEOUT);
-		long t1 = System.currentTimeMillis();
-		long delta = (t1 - t0);
-		
-		if ((selected == 0) && !wakeupCalled.get() && (delta < 100)) {
-            // the select() may have been interrupted because we have had an closed channel.
-            if (isBrokenConnection()) {
-                LOG.debug("[CRAFT-ATOM-NIO] Broken connection wakeup");
-            } else {
-                LOG.debug("[CRAFT-ATOM-NIO] Create a new selector, |selected={}, delta={}|", selected, delta);
-                
-                // it is a workaround method for jdk bug, see http://bugs.sun.com/bugdatabase/view_bug.do?bug_id=6403933
-                registerNewSelector();
-            }
-
-            // Set back the flag to false and continue the loop
-            wakeupCalled.getAndSet(false);
-        }
+		// reset wakeup flag before check pending tasks, any task added after this will wake up the selector again.
+		// if the flag was set, a wakeup may be still pending and next select returns immediately as expected.
+		boolean woken = wakeupCalled.getAndSet(false);
+		long delay = scheduleDelay();
+		if (hasPendingTasks() || delay == 0) {
+			return selector.selectNow();
+		}
+		
+		// wake up per tick to expire idle channels in time, and at the nearest deadline of scheduled tasks.
+		long timeout = (idleTimer.size() > 0 ? Math.min(SELECT_TIMEOUT, idleTimer.tickDuration()) : SELECT_TIMEOUT);
+		boolean scheduled = (delay > 0 && delay < TimeUnit.MILLISECONDS.toNanos(timeout));
+		if (scheduled) {
+			timeout = Math.max(1, TimeUnit.NANOSECONDS.toMillis(delay + 999999));
+		}
+		int selected = selector.select(timeout);
+		
+		// returns nothing at a scheduled deadline is not a spin
+		if (selected > 0 || woken || wakeupCalled.get() || scheduled) {
+			spinCount = 0;
+			return selected;
+		}
+		
+		// select returns nothing without wakeup, it is a spin if too many consecutive ones happen in one select timeout.
+		// the clock is read only twice per threshold instead of twice per select.
+		if (spinCount++ == 0) {
+			spinStartTime = System.currentTimeMillis();
+		} else if (spinCount >= SPIN_THRESHOLD) {
+			long delta = System.currentTimeMillis() - spinStartTime;
+			spinCount = 0;
+			if (delta < SELECT_TIMEOUT) {
+				// the select() may have been interrupted because we have had an closed channel.
+				if (isBrokenConnection()) {
+					LOG.debug("[CRAFT-ATOM-NIO] Broken connection wakeup");
+				} else {
+					LOG.debug("[CRAFT-ATOM-NIO] Create a new selector, |spin={}, delta={}|", SPIN_THRESHOLD, delta);
+					
+					// it is a workaround method for jdk bug, see http://bugs.sun.com/bugdatabase/view_bug.do?bug_id=6403933
+					registerNewSelector();
+				}
+			}
+		}
 		
 		return selected;
 	}
 	
+	private Selector openSelector() throws IOException {
+		Selector selector = Selector.open();
+		selectedKeys = (config.isOptimizedSelector() ? NioSelectedKeySet.install(selector) : null);
+		return selector;
+	}
+	
 	private void registerNewSelector() throws IOException {
         synchronized (this) {
             Set<SelectionKey> keys = selector.keys();
 
             // Open a new selector
-            Selector newSelector = Selector.open();
+            Selector newSelector = openSelector();
 
             // Loop on all the registered keys, and register them on the new selector
             for (SelectionKey key : keys) {
@@ -213,7 +546,7 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 
                 // Don't forget to attache the channel, and back !
                 NioByteChannel channel = (NioByteChannel) key.attachment();
-                ch.register(newSelector, key.interestOps(), channel);
+                channel.setSelectionKey(ch.register(newSelector, key.interestOps(), channel));
             }
 
             // Now we can close the old selector and switch it
@@ -229,7 +562,7 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 			Set<SelectionKey> keys = selector.keys();
 			for (SelectionKey key : keys) {
 				SelectableChannel channel = key.channel();
-				if (!((SocketChannel) channel).isConnected()) {
+				if ((channel instanceof SocketChannel) && !((SocketChannel) channel).isConnected()) {
 					// The channel is not connected anymore. Cancel the associated key.
 					key.cancel();
 					broken = true;
@@ -243,16 +576,63 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 	private void register() throws ClosedChannelException {
 		for (NioByteChannel channel = newChannels.poll(); channel != null; channel = newChannels.poll()) {
 			SelectableChannel sc = channel.innerChannel();
-			SelectionKey key = sc.register(selector, SelectionKey.OP_READ, channel);
+			SelectionKey key = sc.register(selector, (channel.isReadSuspended() ? 0 : SelectionKey.OP_READ), channel);
 			channel.setSelectionKey(key);
 			idleTimer.add(channel);
+			if (channel instanceof NioUdpByteChannel) {
+				udpChannels.add((NioUdpByteChannel) channel);
+			}
 			
 			// fire channel opened event
 			fireChannelOpened(channel);
 		}
+		
+		// channels migrated from other processors are already opened, just register them and continue flushing
+		for (NioByteChannel channel = adoptedChannels.poll(); channel != null; channel = adoptedChannels.poll()) {
+			SelectableChannel sc = channel.innerChannel();
+			SelectionKey key = sc.register(selector, (channel.isReadSuspended() ? 0 : SelectionKey.OP_READ), channel);
+			channel.setSelectionKey(key);
+			idleTimer.add(channel);
+			if (!channel.getWriteBufferQueue().isEmpty()) {
+				scheduleFlush(channel);
+			}
+			LOG.debug("[CRAFT-ATOM-NIO] Adopted |channel={}|", channel);
+		}
+	}
+	
+	/**
+	 * Update read interest of the channel by its read suspended state, it takes effect in process thread.
+	 * 
+	 * @param channel
+	 */
+	void updateReadInterest(NioByteChannel channel) {
+		if (inProcessThread()) {
+			setInterestedInRead(channel, !channel.isReadSuspended());
+			return;
+		}
+		
+		interestChannels.add(channel);
+		wakeup();
+	}
+	
+	private void updateReadInterest() {
+		for (NioByteChannel channel = interestChannels.poll(); channel != null; channel = interestChannels.poll()) {
+			if (forward(channel)) {
+				channel.getProcessor().updateReadInterest(channel);
+				continue;
+			}
+			
+			setInterestedInRead(channel, !channel.isReadSuspended());
+		}
 	}
 	
 	private void process() {
+		long deadline = (processTimeBudget > 0 ? System.nanoTime() + processTimeBudget : 0);
+		if (selectedKeys != null) {
+			processOptimized(deadline);
+			return;
+		}
+		
 		Iterator<SelectionKey> it = selector.selectedKeys().iterator();
 		while (it.hasNext()) {
 			NioByteChannel channel = (NioByteChannel) it.next().attachment();
@@ -262,38 +642,75 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 				LOG.debug("[CRAFT-ATOM-NIO] Channel is invalid, |channel={}|", channel);
 			}
 			it.remove();
+			deadline = interleave(deadline);
+		}
+	}
+	
+	private void processOptimized(long deadline) {
+		try {
+			for (int i = 0; i < selectedKeys.size(); i++) {
+				NioByteChannel channel = (NioByteChannel) selectedKeys.get(i).attachment();
+				if (channel.isValid()) {
+					process0(channel);
+				} else {
+					LOG.debug("[CRAFT-ATOM-NIO] Channel is invalid, |channel={}|", channel);
+				}
+				deadline = interleave(deadline);
+			}
+		} finally {
+			selectedKeys.reset();
 		}
 	}
 	
+	private long interleave(long deadline) {
+		if (deadline == 0 || System.nanoTime() < deadline) {
+			return deadline;
+		}
+		
+		// time budget is used up, flush pending writes before processing the rest selected keys to bound write latency.
+		LOG.debug("[CRAFT-ATOM-NIO] Process time budget is used up, interleave flush");
+		flush();
+		return System.nanoTime() + processTimeBudget;
+	}
+	
 	private void process0(NioByteChannel channel) {
 		// set last IO time
-		channel.setLastIoTime(System.currentTimeMillis());
+		channel.setLastIoTime(currentTimeMillis());
 		
 		// Process reads
-		if (channel.isReadable()) {
+		if (channel.isReadReady()) {
 			LOG.debug("[CRAFT-ATOM-NIO] Read event process on |channel={}|", channel);
 			read(channel);
 		}
 
 		// Process writes
-		if (channel.isWritable()) {
+		if (channel.isWriteReady()) {
 			LOG.debug("[CRAFT-ATOM-NIO] Write event process on |channel={}|", channel);
 			scheduleFlush(channel);
 		}
 	}
 	
 	private void read(NioByteChannel channel) {
+		if (protocol == IoProtocol.UDP) {
+			readUdp((NioUdpByteChannel) channel);
+			return;
+		}
+		
+		// read quota limits bytes of one channel per select, the rest is read in next select as the selector is level triggered.
 		int bufferSize = channel.getPredictor().next();
-		ByteBuffer buf = allocator.allocate(bufferSize);
+		if (readQuota > 0 && bufferSize > readQuota) {
+			bufferSize = readQuota;
+		}
+		NioByteBufferPool pool = bufferPool(channel);
+		ByteBuffer buf = (pool == null ? allocator.allocate(bufferSize) : pool.acquire(bufferSize));
+		if (readQuota > 0 && buf.capacity() > readQuota) {
+			buf.limit(readQuota);
+		}
 		LOG.debug("[CRAFT-ATOM-NIO] Predict buffer |size={}, buffer={}|", bufferSize, buf);
 		
 		int readBytes = 0;
 		try {
-			if (protocol.equals(IoProtocol.TCP)) {
-				readBytes = readTcp(channel, buf);
-			} else if (protocol.equals(IoProtocol.UDP)) {
-				readBytes = readUdp(channel, buf);
-			}
+			readBytes = readTcp(channel, buf);
 		} catch (Exception e) {
 			LOG.debug("[CRAFT-ATOM-NIO] Catch read exception and fire it, |channel={}|", channel, e);
 
@@ -305,14 +722,25 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 				scheduleClose(channel);
 			}
 		} finally {
-			if (readBytes > 0) { buf.clear(); }
+			if (readBytes > 0) { channel.setLastReadTime(channel.getLastIoTime()); countIo(channel, readBytes); }
+			if (pool == null) {
+				if (readBytes > 0) { buf.clear(); }
+			} else {
+				// zero-copy read buffer is owned by handler once it is fired, otherwise give it back.
+				if (readBytes <= 0) { pool.release(buf); }
+			}
 		}
 	}
 	
 	private int readTcp(NioByteChannel channel, ByteBuffer buf) throws IOException {
 		int readBytes = 0;
-		int ret;
-		while ((ret = channel.readTcp(buf)) > 0) {
+		int ret = 0;
+		for (int i = 0; i < readSpinCount; i++) {
+			ret = channel.readTcp(buf);
+			if (ret <= 0) {
+				break;
+			}
+			
 			readBytes += ret;
 			if (!buf.hasRemaining()) {
 				break;
@@ -320,7 +748,7 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 		}
 
 		if (readBytes > 0) {
-			channel.getPredictor().previous(readBytes);
+			channel.predict(readBytes);
 			fireChannelRead(channel, buf, readBytes);
 			LOG.debug("[CRAFT-ATOM-NIO] Actual |readBytes={}|", readBytes);
 		}
@@ -333,6 +761,11 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 		return readBytes;
 	}
 	
+	private NioByteBufferPool bufferPool(NioByteChannel channel) {
+		// zero-copy read is decided by handler of the channel, as channels of several reactors may share the processor.
+		return (channel.getHandler() instanceof NioReadBufferHandler ? bufferPool : null);
+	}
+	
 	private void scheduleClose(NioByteChannel channel) {
 		if (channel.isClosing() || channel.isClosed()) {
 			return;
@@ -341,28 +774,111 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 		closingChannels.add(channel);
 	}
 	
-	private int readUdp(NioByteChannel channel, ByteBuffer buf) throws IOException {
-		SocketAddress remoteAddress = channel.readUdp(buf);
-		if (remoteAddress == null) {
+	private void readUdp(NioUdpByteChannel channel) {
+		// drain at most read spin count datagrams per select, each datagram is fired with the channel of its peer.
+		int bufferSize = channel.getPredictor().next();
+		long now = channel.getLastIoTime();
+		NioByteBufferPool pool = bufferPool(channel);
+		for (int i = 0; i < readSpinCount; i++) {
+			ByteBuffer buf = (pool == null ? allocator.allocate(bufferSize) : pool.acquire(bufferSize));
+			SocketAddress remoteAddress = null;
+			try {
+				remoteAddress = channel.readUdp(buf);
+			} catch (Exception e) {
+				LOG.debug("[CRAFT-ATOM-NIO] Catch read exception and fire it, |channel={}|", channel, e);
+				fireChannelThrown(channel, e);
+				if (e instanceof IOException) {
+					scheduleClose(channel);
+				}
+			} finally {
+				if (remoteAddress == null && pool != null) { pool.release(buf); }
+			}
+			
 			// no datagram was immediately available
-			return 0;
+			if (remoteAddress == null) {
+				break;
+			}
+			
+			int readBytes = buf.position();
+			NioUdpByteChannel peer = peer(channel, remoteAddress);
+			peer.setLastIoTime(now);
+			peer.setLastReadTime(now);
+			countIo(peer, readBytes);
+			fireChannelRead(peer, buf, readBytes);
+			if (pool == null) { buf.clear(); }
+		}
+	}
+	
+	private NioUdpByteChannel peer(NioUdpByteChannel channel, SocketAddress remoteAddress) {
+		Map<SocketAddress, NioUdpByteChannel> peers = channel.getPeers();
+		NioUdpByteChannel peer = peers.get(remoteAddress);
+		if (peer != null) {
+			return peer;
 		}
 		
-		int readBytes = buf.position();
-		String key = udpChannelKey(channel.getLocalAddress(), remoteAddress);
-		if (!udpChannels.containsKey(key)) {
-			// handle first datagram with current channel
-			channel.setRemoteAddress(remoteAddress);
-			udpChannels.put(key, channel);
+		// too many peers, evict the least recently read one
+		if (peers.size() >= udpPeerSize) {
+			Iterator<NioUdpByteChannel> it = peers.values().iterator();
+			NioUdpByteChannel eldest = it.next();
+			it.remove();
+			scheduleClose(eldest);
 		}
-		channel.setLastIoTime(System.currentTimeMillis());
-		fireChannelRead(channel, buf, buf.position());
 		
-		return readBytes;
+		peer = new NioUdpByteChannel(channel, remoteAddress, config);
+		peer.setProcessor(this);
+		peers.put(remoteAddress, peer);
+		channelCount.incrementAndGet();
+		idleTimer.add(peer);
+		
+		// fire channel opened event
+		fireChannelOpened(peer);
+		return peer;
+	}
+	
+	private void removeUdp(NioUdpByteChannel channel) {
+		NioUdpByteChannel parent = channel.getParent();
+		if (parent == null) {
+			// the bound channel is closed, all its peers are closed too.
+			udpChannels.remove(channel);
+			for (NioUdpByteChannel peer : channel.getPeers().values()) {
+				scheduleClose(peer);
+			}
+			channel.getPeers().clear();
+			return;
+		}
+		
+		// the peer may have been evicted and replaced by a new one of the same remote address.
+		Map<SocketAddress, NioUdpByteChannel> peers = parent.getPeers();
+		if (peers.get(channel.getRemoteAddress()) == channel) {
+			peers.remove(channel.getRemoteAddress());
+		}
 	}
 	
-	private String udpChannelKey(SocketAddress localAddress, SocketAddress remoteAddress) {
-		return localAddress.toString() + "-" + remoteAddress.toString();
+	/**
+	 * Close peers which have not sent any datagram for peer idle timeout, 
+	 * peers are in LRU order of reading, so it stops at the first one not expired and the cost is proportional to the expired ones.
+	 * 
+	 * @param now
+	 */
+	private void expireUdpPeers(long now) {
+		if (udpPeerIdleTimeout <= 0 || udpChannels.isEmpty() || now - udpExpireTime < udpExpireInterval) {
+			return;
+		}
+		
+		udpExpireTime = now;
+		for (int i = 0; i < udpChannels.size(); i++) {
+			Iterator<NioUdpByteChannel> it = udpChannels.get(i).getPeers().values().iterator();
+			while (it.hasNext()) {
+				NioUdpByteChannel peer = it.next();
+				if (now - peer.getLastReadTime() < udpPeerIdleTimeout) {
+					break;
+				}
+				
+				it.remove();
+				scheduleClose(peer);
+				LOG.debug("[CRAFT-ATOM-NIO] Expire udp peer |channel={}|", peer);
+			}
+		}
 	}
 	
 	/**
@@ -379,49 +895,125 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 			return;
 		}
 		
-		scheduleFlush(channel);
-		wakeup();
+		// If the channel is already in flushing queue, the processor has been waken up or is waiting for writable.
+		if (scheduleFlush(channel)) {
+			wakeup();
+		}
 	}
 	
-	private void scheduleFlush(NioByteChannel channel) {
+	/**
+	 * Write the queued buffer to the channel directly in process thread if it is the head of the write buffer queue,
+	 * it avoids the flushing queue hand-off and the flush latency.
+	 * <p>
+	 * The buffer is queued by the caller before, so the remaining bytes of a partial write stay at the head of the queue 
+	 * and are flushed later ahead of any buffer written by another thread meanwhile.
+	 * <p>
+	 * Write through fires flush and written events inside the caller's event, so it is disabled if total event size is limited,
+	 * otherwise the nested dispatch may wait for the permit held by the caller itself.
+	 * 
+	 * @param channel
+	 * @param buf     the buffer just queued.
+	 * @return <tt>true</tt> if the buffer is written and removed from the queue, otherwise it should be flushed later.
+	 */
+	boolean writeThrough(NioByteChannel channel, ByteBuffer buf) {
+		if (!writeThrough || !inProcessThread() || protocol != IoProtocol.TCP || channel.isScheduleFlush()) {
+			return false;
+		}
+		
+		// only the process thread removes buffers, the buffer at head means nothing of the channel is waiting to be flushed.
+		Queue<ByteBuffer> writeQueue = channel.getWriteBufferQueue();
+		if (writeQueue.peek() != buf) {
+			return false;
+		}
+		
+		// Large buffer is flushed in flushing queue to keep fairness with the other channels.
+		if (buf.remaining() > channel.getMaxWriteBufferSize()) {
+			return false;
+		}
+		
+		try {
+			// the remaining bytes are flushed later and the flush event is fired by the queued flush, so fire it only if all is written.
+			write(channel, buf, Integer.MAX_VALUE);
+			if (buf.hasRemaining()) {
+				return false;
+			}
+			
+			// fire channel flush and written event
+			remove(channel, writeQueue);
+			fireChannelFlush(channel, buf);
+			fireChannelWritten(channel, buf);
+		} catch (Exception e) {
+			LOG.debug("[CRAFT-ATOM-NIO] Catch write through exception and fire it", e);
+			
+			// fire channel thrown event 
+			fireChannelThrown(channel, e);
+			
+			// if it is IO exception close channel avoid infinite loop.
+			if (e instanceof IOException) {
+				scheduleClose(channel);
+			}
+		}
+		
+		// the queued bytes may have crossed the water marks in between.
+		if (channel.writabilityChanged()) {
+			fireChannelWritabilityChanged(channel);
+		}
+		return true;
+	}
+	
+	private boolean scheduleFlush(NioByteChannel channel) {
 		// Add channel to flushing queue if it's not already in the queue, soon after it will be flushed in the same select loop.
 		if (channel.setScheduleFlush(true)) {
 			flushingChannels.add(channel);
+			return true;
 		}
+		return false;
 	}
 	
 	private void flush() {
-		int c = 0;
-		while (!flushingChannels.isEmpty() && c < FLUSH_SPIN_COUNT) {
-			NioByteChannel channel = flushingChannels.poll();
-            if (channel == null) {
-                // Just in case ... It should not happen.
-                break;
-            }
-            
-            // Reset the schedule for flush flag to this channel, as we are flushing it now
-            channel.unsetScheduleFlush();
-            
-            try {
-            	if (channel.isClosed() || channel.isClosing()) {
-            		LOG.debug("[CRAFT-ATOM-NIO] Channel is closing or closed, |Channel={}, flushing-channel-size={}|", channel, flushingChannels.size());
-            		continue;
-            	} else {
-            		// spin counter avoid infinite loop in this method.
-                    c++;
-            		flush0(channel);
-            	}
-			} catch (Exception e) {
-				LOG.debug("[CRAFT-ATOM-NIO] Catch flush exception and fire it", e);
-				
-				// fire channel thrown event 
-				fireChannelThrown(channel, e);
-				
-				// if it is IO exception close channel avoid infinite loop.
-				if (e instanceof IOException) {
-					scheduleClose(channel);
-				}
+		// drain a batch of channels at once, channels re-scheduled in this loop are flushed in next loop to avoid infinite loop.
+		flushingChannels.drainTo(flushBatch, FLUSH_SPIN_COUNT);
+		try {
+			for (int i = 0; i < flushBatch.size(); i++) {
+				flushScheduled(flushBatch.get(i));
 			}
+		} finally {
+			flushBatch.clear();
+		}
+	}
+	
+	private void flushScheduled(NioByteChannel channel) {
+		// Reset the schedule for flush flag to this channel, as we are flushing it now
+		channel.unsetScheduleFlush();
+		
+		// the channel has been migrated to another processor, let its current processor flush it.
+		if (forward(channel)) {
+			channel.getProcessor().flush(channel);
+			return;
+		}
+		
+		try {
+			if (channel.isClosed() || channel.isClosing()) {
+				LOG.debug("[CRAFT-ATOM-NIO] Channel is closing or closed, |Channel={}|", channel);
+				return;
+			} else {
+				flush0(channel);
+			}
+		} catch (Exception e) {
+			LOG.debug("[CRAFT-ATOM-NIO] Catch flush exception and fire it", e);
+			
+			// fire channel thrown event 
+			fireChannelThrown(channel, e);
+			
+			// if it is IO exception close channel avoid infinite loop.
+			if (e instanceof IOException) {
+				scheduleClose(channel);
+			}
+		}
+		
+		// fire channel writability changed event if water mark is crossed since last flush.
+		if (channel.writabilityChanged()) {
+			fireChannelWritabilityChanged(channel);
 		}
 	}
 	
@@ -434,7 +1026,9 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 		setInterestedInWrite(channel, false);
 		
 		// flush by mode
-		if (config.isReadWritefair()) {
+		if (gatheringBuffers != null && protocol == IoProtocol.TCP) {
+			gatheringFlush0(channel, writeQueue);
+		} else if (config.isReadWritefair()) {
 			fairFlush0(channel, writeQueue);
 		} else {
 			oneOffFlush0(channel, writeQueue);
@@ -455,17 +1049,16 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 		
 		// fire channel flush event
 		fireChannelFlush(channel, buf);
-		write(channel, buf, buf.remaining());
+		write(channel, buf, Integer.MAX_VALUE);
 		
-		if (buf.hasRemaining()) {
+		if (hasRemaining(channel, buf)) {
 			setInterestedInWrite(channel, true);
 			scheduleFlush(channel);
 			return;
 		} else {
-			writeQueue.remove();
-			
-			// fire channel written event
+			// fire channel written event, before removing so a composite buffer is still at head
 			fireChannelWritten(channel, buf);
+			remove(channel, writeQueue);
 		}
 	}
 	
@@ -488,18 +1081,17 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 			
 			int qota = maxWriteBytes - writtenBytes;
 			int localWrittenBytes = write(channel, buf, qota);
-			LOG.debug("[CRAFT-ATOM-NIO] Flush |buffer={}, channel={}, bytes={}, size={}, qota={}, remaining={}|", new String(buf.array()), channel, localWrittenBytes, buf.array().length, qota, buf.remaining());
+			LOG.debug("[CRAFT-ATOM-NIO] Flush |channel={}, bytes={}, size={}, qota={}, remaining={}|", channel, localWrittenBytes, buf.capacity(), qota, buf.remaining());
 		
 			writtenBytes += localWrittenBytes;
 			
 			// The buffer is all flushed, remove it from write queue
-			if (!buf.hasRemaining()) {
+			if (!hasRemaining(channel, buf)) {
 				LOG.debug("[CRAFT-ATOM-NIO] The buffer is all flushed, remove it from write queue");
 				
-				writeQueue.remove();
-				
-				// fire channel written event
+				// fire channel written event, before removing so a composite buffer is still at head
 				fireChannelWritten(channel, buf);
+				remove(channel, writeQueue);
 				
 				// set buf=null and the next loop if no byte buffer to write then break the loop.
 				buf = null;
@@ -516,7 +1108,7 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 			}
 			
 			// The buffer isn't empty(bytes to flush more than max bytes), we re-interest in writing and later flush it.
-			if (localWrittenBytes > 0 && buf.hasRemaining()) {
+			if (localWrittenBytes > 0 && hasRemaining(channel, buf)) {
 				LOG.debug("[CRAFT-ATOM-NIO] The buffer isn't empty, bytes to flush more than max bytes, we re-interest in writing and later flush it, |channel={}|", channel);
 				
 				setInterestedInWrite(channel, true);
@@ -525,7 +1117,7 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 			}
 
 			// Wrote too much, so we re-interest in writing and later flush other bytes.
-			if (writtenBytes >= maxWriteBytes && buf.hasRemaining()) {
+			if (writtenBytes >= maxWriteBytes && hasRemaining(channel, buf)) {
 				LOG.debug("[CRAFT-ATOM-NIO] Wrote too much, so we re-interest in writing and later flush other bytes, |channel={}|", channel);
 				
 				setInterestedInWrite(channel, true);
@@ -535,7 +1127,135 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 		} while (writtenBytes < maxWriteBytes);
 	}
 	
+	private void gatheringFlush0(NioByteChannel channel, Queue<ByteBuffer> writeQueue) throws IOException {
+		int writtenBytes = 0;
+		final int maxWriteBytes = channel.getMaxWriteBufferSize();
+		
+		do {
+			// gather buffers from head of the write queue, the last one is limited if the bytes exceed qota.
+			// the buffers of a composite are gathered all or none, so each gathered entry is whole but the last one.
+			// flush event of the entries gathered by a previous partial flush is already fired, it is fired once per entry.
+			int n = 0;
+			int entries = 0;
+			int oldLimit = -1;
+			int qota = maxWriteBytes - writtenBytes;
+			Iterator<NioCompositeBuffer> composites = null;
+			for (ByteBuffer buf : writeQueue) {
+				if (n == gatheringBuffers.length || qota <= 0 || buf == NioFileRegion.MARKER) {
+					break;
+				}
+				
+				if (buf == NioCompositeBuffer.MARKER) {
+					if (composites == null) {
+						composites = channel.getCompositeQueue().iterator();
+					}
+					NioCompositeBuffer composite = composites.next();
+					long remaining = composite.remaining();
+					if (remaining > qota) {
+						break;
+					}
+					int k = composite.gather(gatheringBuffers, n);
+					if (k < 0) {
+						break;
+					}
+					
+					// fire channel flush event
+					if (entries >= channel.flushFiredEntries) {
+						fireChannelFlush(channel, composite);
+					}
+					n += k;
+					entries++;
+					qota -= remaining;
+					continue;
+				}
+				
+				// fire channel flush event
+				if (entries >= channel.flushFiredEntries) {
+					fireChannelFlush(channel, buf);
+				}
+				gatheringBuffers[n++] = buf;
+				entries++;
+				if (buf.remaining() > qota) {
+					oldLimit = buf.limit();
+					buf.limit(buf.position() + qota);
+				}
+				qota -= buf.remaining();
+			}
+			channel.flushFiredEntries = Math.max(channel.flushFiredEntries, entries);
+			
+			if (n == 0) {
+				ByteBuffer head = writeQueue.peek();
+				if (head != NioFileRegion.MARKER && head != NioCompositeBuffer.MARKER) {
+					return;
+				}
+				
+				// a file region or a composite too large to gather at the head is written alone
+				if (channel.flushFiredEntries == 0) {
+					fireChannelFlush(channel, head);
+					channel.flushFiredEntries = 1;
+				}
+				writtenBytes += write(channel, head, qota);
+				if (hasRemaining(channel, head)) {
+					setInterestedInWrite(channel, true);
+					scheduleFlush(channel);
+					return;
+				}
+				fireChannelWritten(channel, head);
+				remove(channel, writeQueue);
+				channel.flushFiredEntries--;
+				continue;
+			}
+			
+			long localWrittenBytes;
+			try {
+				localWrittenBytes = channel.writeTcp(gatheringBuffers, 0, n);
+			} finally {
+				if (oldLimit >= 0) { gatheringBuffers[n - 1].limit(oldLimit); }
+				for (int i = 0; i < n; i++) {
+					gatheringBuffers[i] = null;
+				}
+			}
+			channel.decrementWriteBufferBytes(localWrittenBytes);
+			countWritten(channel, localWrittenBytes);
+			writtenBytes += localWrittenBytes;
+			LOG.debug("[CRAFT-ATOM-NIO] Gathering flush |channel={}, buffers={}, bytes={}|", channel, n, localWrittenBytes);
+			
+			// remove all flushed entries from write queue
+			boolean partial = false;
+			for (int i = 0; i < entries; i++) {
+				ByteBuffer buf = writeQueue.peek();
+				if (hasRemaining(channel, buf)) {
+					partial = true;
+					break;
+				}
+				
+				// fire channel written event
+				fireChannelWritten(channel, buf);
+				remove(channel, writeQueue);
+				channel.flushFiredEntries--;
+			}
+			
+			// kernel buffer is full or bytes to flush more than max bytes, we re-interest in writing and later flush it.
+			if (localWrittenBytes == 0 || partial) {
+				LOG.debug("[CRAFT-ATOM-NIO] Gathering flush not complete, we re-interest in writing and later flush it, |channel={}|", channel);
+				
+				setInterestedInWrite(channel, true);
+				scheduleFlush(channel);
+				return;
+			}
+		} while (writtenBytes < maxWriteBytes);
+	}
+	
 	private void setInterestedInWrite(NioByteChannel channel, boolean isInterested) {
+		setInterested(channel, SelectionKey.OP_WRITE, isInterested);
+	}
+	
+	private void setInterestedInRead(NioByteChannel channel, boolean isInterested) {
+		LOG.debug("[CRAFT-ATOM-NIO] Set interested in read |channel={}, interested={}|", channel, isInterested);
+		setInterested(channel, SelectionKey.OP_READ, isInterested);
+	}
+	
+	private void setInterested(NioByteChannel channel, int ops, boolean isInterested) {
 		SelectionKey key = channel.getSelectionKey();
 
 		if (key == null || !key.isValid()) {
@@ -545,9 +1265,9 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 		int oldInterestOps = key.interestOps();
 		int newInterestOps = oldInterestOps;
 		if (isInterested) {
-			newInterestOps |= SelectionKey.OP_WRITE;
+			newInterestOps |= ops;
 		} else {
-			newInterestOps &= ~SelectionKey.OP_WRITE;
+			newInterestOps &= ~ops;
 		}
 
 		if (oldInterestOps != newInterestOps) {
@@ -555,7 +1275,49 @@ public class NioProcessor extends NioReactor implements IoProcessor {
         }
 	}
 	
+	private boolean hasRemaining(NioByteChannel channel, ByteBuffer buf) {
+		if (buf == NioFileRegion.MARKER) {
+			return channel.getFileRegionQueue().peek().hasRemaining();
+		}
+		if (buf == NioCompositeBuffer.MARKER) {
+			return channel.getCompositeQueue().peek().hasRemaining();
+		}
+		return buf.hasRemaining();
+	}
+	
+	private void remove(NioByteChannel channel, Queue<ByteBuffer> writeQueue) {
+		ByteBuffer buf = writeQueue.remove();
+		if (buf == NioFileRegion.MARKER) {
+			channel.getFileRegionQueue().remove();
+		} else if (buf == NioCompositeBuffer.MARKER) {
+			channel.getCompositeQueue().remove();
+		}
+	}
+	
+	private int writeComposite(NioByteChannel channel, int maxLength) throws IOException {
+		int writtenBytes = (int) channel.getCompositeQueue().peek().writeTo(channel, maxLength);
+		LOG.debug("[CRAFT-ATOM-NIO] Actual written composite byte size, |writtenBytes={}|", writtenBytes);
+		channel.decrementWriteBufferBytes(writtenBytes);
+		countWritten(channel, writtenBytes);
+		return writtenBytes;
+	}
+	
+	private int transfer(NioByteChannel channel, int maxLength) throws IOException {
+		int writtenBytes = (int) channel.getFileRegionQueue().peek().transferTo(channel, maxLength);
+		LOG.debug("[CRAFT-ATOM-NIO] Actual transferred byte size, |writtenBytes={}|", writtenBytes);
+		channel.decrementWriteBufferBytes(writtenBytes);
+		countWritten(channel, writtenBytes);
+		return writtenBytes;
+	}
+	
 	private int write(NioByteChannel channel, ByteBuffer buf, int maxLength) throws IOException {		
+		if (buf == NioFileRegion.MARKER) {
+			return transfer(channel, maxLength);
+		}
+		if (buf == NioCompositeBuffer.MARKER) {
+			return writeComposite(channel, maxLength);
+		}
+		
 		int writtenBytes = 0;
 		LOG.debug("[CRAFT-ATOM-NIO] Allow write max len={}, Waiting write byte buffer={}", maxLength, buf); 
 
@@ -569,6 +1331,8 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 		}
 		
 		LOG.debug("[CRAFT-ATOM-NIO] Actual written byte size, |writtenBytes={}|", writtenBytes);
+		channel.decrementWriteBufferBytes(writtenBytes);
+		countWritten(channel, writtenBytes);
 		return writtenBytes;
 	}
 	
@@ -601,6 +1365,21 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 
 	}
 	
+	/**
+	 * Close all the channels of the reactor within this processor, the processor keeps running for the other reactors sharing it.
+	 * 
+	 * @param reactor
+	 */
+	void remove(NioReactor reactor) {
+		// the process thread has never started, no channel is in this processor.
+		if (shutdown || processThreadRef.get() == null) {
+			return;
+		}
+		
+		closingReactors.add(reactor);
+		wakeup();
+	}
+	
 	/**
 	 * Removes and closes the specified channel from the processor,
 	 * so that processor closes the channel and releases any other related resources.
@@ -623,12 +1402,177 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 	@Override
 	public IoProcessorX x() {
 		NioProcessorX x = new NioProcessorX();
+		x.setAliveChannelCount(channelCount());
+		// queue sizes are constant time estimates, producers never contend on them.
 		x.setNewChannelCount(newChannels.size());
 		x.setFlushingChannelCount(flushingChannels.size());
 		x.setClosingChannelCount(closingChannels.size());
+		x.setIoBytes(ioBytes);
+		x.setIoEvents(ioEvents);
+		x.setIoBytesPerSecond(ioRate());
+		x.setIoEventsPerSecond(ioEventRate());
 		return x;
 	}
 	
+	/**
+	 * @return count of channels on this processor, added or migrated in and not closed or migrated out yet.
+	 */
+	public int channelCount() {
+		return channelCount.get();
+	}
+	
+	/**
+	 * @return recent I/O bytes per second, sampled by process thread about once per second.
+	 */
+	public long ioRate() {
+		return ioRate;
+	}
+	
+	/**
+	 * @return recent I/O events per second, sampled by process thread about once per second.
+	 */
+	public long ioEventRate() {
+		return ioEventRate;
+	}
+	
+	/**
+	 * @return count of channels on this processor at the last rate sample, the traffic of channels added since is not in the rates yet.
+	 */
+	public int sampledChannelCount() {
+		return rateSampleChannels;
+	}
+	
+	/**
+	 * Sample I/O rates of the processor and its channels in process thread once the interval elapses, so the rates always reflect 
+	 * the last interval rather than an average over the gap since some caller last asked. The select loop wakes up at least per 
+	 * select timeout, so a quiet processor decays to zero in time.
+	 * 
+	 * @param now
+	 */
+	private void sampleRate(long now) {
+		long elapsed = now - rateSampleTime;
+		if (elapsed < RATE_INTERVAL) {
+			return;
+		}
+		
+		long bytes         = ioBytes;
+		long events        = ioEvents;
+		ioRate             = (bytes - rateSampleBytes) * 1000 / elapsed;
+		ioEventRate        = (events - rateSampleEvents) * 1000 / elapsed;
+		rateSampleBytes    = bytes;
+		rateSampleEvents   = events;
+		rateSampleTime     = now;
+		rateSampleChannels = channelCount();
+		
+		for (SelectionKey key : selector.keys()) {
+			NioByteChannel channel = (NioByteChannel) key.attachment();
+			channel.sampleIoRate(elapsed);
+		}
+	}
+	
+	private void countWritten(NioByteChannel channel, long bytes) {
+		if (bytes > 0) {
+			channel.setLastWriteTime(currentTimeMillis());
+		}
+		countIo(channel, bytes);
+	}
+	
+	// only invoked by process thread, lazy set is enough for the single writer.
+	private void countIo(NioByteChannel channel, long bytes) {
+		if (bytes <= 0) {
+			return;
+		}
+		
+		channel.countIo(bytes);
+		IO_BYTES_UPDATER.lazySet(this, ioBytes + bytes);
+		IO_EVENTS_UPDATER.lazySet(this, ioEvents + 1);
+	}
+	
+	/**
+	 * Ask the processor to migrate one of its channels to the target processor, 
+	 * it picks the busiest channel whose recent I/O rate does not exceed the given rate, so that the hot spot is not just moved.
+	 * The migration takes effect in process thread.
+	 * 
+	 * @param target
+	 * @param rate   max I/O bytes per second to shed.
+	 */
+	void shed(NioProcessor target, long rate) {
+		if (shutdown || target == null || target == this || protocol != IoProtocol.TCP) {
+			return;
+		}
+		
+		this.shedRate   = rate;
+		this.shedTarget = target;
+		wakeup();
+	}
+	
+	private void shed() {
+		NioProcessor target = shedTarget;
+		if (target == null) {
+			return;
+		}
+		shedTarget = null;
+		
+		long rate = shedRate;
+		NioByteChannel candidate     = null;
+		long           candidateRate = -1;
+		for (SelectionKey key : selector.keys()) {
+			NioByteChannel channel = (NioByteChannel) key.attachment();
+			if (channel instanceof NioUdpByteChannel) {
+				// a bound udp channel stays with its peers
+				continue;
+			}
+			
+			long r = channel.ioRate();
+			if (key.isValid() && channel.isOpen() && r <= rate && r > candidateRate) {
+				candidate     = channel;
+				candidateRate = r;
+			}
+		}
+		
+		if (candidate != null && !target.shutdown) {
+			migrate(candidate, target);
+		}
+	}
+	
+	private void migrate(NioByteChannel channel, NioProcessor target) {
+		// deregister from this selector, the cancelled key never be selected again.
+		channel.getSelectionKey().cancel();
+		idleTimer.remove(channel);
+		channelCount.decrementAndGet();
+		
+		// since now, writes, flushes, pauses and closes of the channel go to the target, the stale ones queued here are forwarded.
+		channel.setProcessor(target);
+		target.adopt(channel);
+		LOG.debug("[CRAFT-ATOM-NIO] Migrate |channel={}, target={}|", channel, target);
+	}
+	
+	/**
+	 * Adopt a channel migrated from another processor, it is registered in process thread without firing channel opened event again.
+	 * 
+	 * @param channel
+	 */
+	void adopt(NioByteChannel channel) {
+		channelCount.incrementAndGet();
+		adoptedChannels.add(channel);
+		startup();
+		wakeup();
+	}
+	
+	private boolean forward(NioByteChannel channel) {
+		NioProcessor p = channel.getProcessor();
+		return p != null && p != this && !p.shutdown;
+	}
+	
+	/**
+	 * Current time for I/O timestamps, it is read from the coarse clock if clock resolution is configured.
+	 * 
+	 * @return current time in milliseconds.
+	 */
+	long currentTimeMillis() {
+		return (clock == null ? System.currentTimeMillis() : clock.currentTimeMillis());
+	}
+	
 	public void setProtocol(IoProtocol protocol) {
 		this.protocol = protocol;
 	}
@@ -638,30 +1582,70 @@ public class NioProcessor extends NioReactor implements IoProcessor {
     
     
     private void fireChannelOpened(NioByteChannel channel) {
-    	dispatcher.dispatch(new NioByteChannelEvent(ChannelEventType.CHANNEL_OPENED, channel, handler));
+    	NioByteChannelEvent.dispatch(ChannelEventType.CHANNEL_OPENED, channel, null);
     }
 	
 	private void fireChannelRead(NioByteChannel channel, ByteBuffer buf, int length) {
+		// zero-copy read mode, fire channel received event with a reference counted view of the pooled buffer.
+		NioByteBufferPool pool = bufferPool(channel);
+		if (pool != null) {
+			buf.flip();
+			NioByteChannelEvent.dispatch(ChannelEventType.CHANNEL_READ, channel, new NioReadBuffer(buf, pool));
+			return;
+		}
+		
 		// fire channel received event, here we copy buffer bytes to a new byte array to avoid handler expose <code>ByteBuffer</code> to end user.
 		byte[] barr = new byte[length];
 		System.arraycopy(buf.array(), 0, barr, 0, length);
-		dispatcher.dispatch(new NioByteChannelEvent(ChannelEventType.CHANNEL_READ, channel, handler, barr));
+		NioByteChannelEvent.dispatch(ChannelEventType.CHANNEL_READ, channel, barr);
 	}
 	
 	private void fireChannelFlush(NioByteChannel channel, ByteBuffer buf) {
-		dispatcher.dispatch(new NioByteChannelEvent(ChannelEventType.CHANNEL_FLUSH, channel, handler, buf.array()));
+		if (!flushEventEnabled || buf == NioFileRegion.MARKER) {
+			return;
+		}
+		
+		NioByteChannelEvent.dispatch(ChannelEventType.CHANNEL_FLUSH, channel, toBytes(channel, buf));
+	}
+	
+	private void fireChannelFlush(NioByteChannel channel, NioCompositeBuffer composite) {
+		if (!flushEventEnabled) {
+			return;
+		}
+		
+		NioByteChannelEvent.dispatch(ChannelEventType.CHANNEL_FLUSH, channel, composite.toBytes());
 	}
 	
 	private void fireChannelWritten(NioByteChannel channel, ByteBuffer buf) {
-		dispatcher.dispatch(new NioByteChannelEvent(ChannelEventType.CHANNEL_WRITTEN, channel, handler, buf.array()));
+		if (!writtenEventEnabled || buf == NioFileRegion.MARKER) {
+			return;
+		}
+		
+		NioByteChannelEvent.dispatch(ChannelEventType.CHANNEL_WRITTEN, channel, toBytes(channel, buf));
+	}
+	
+	/**
+	 * @return bytes of a queued buffer, a composite marker stands for the composite buffer at head of the composite queue.
+	 */
+	private byte[] toBytes(NioByteChannel channel, ByteBuffer buf) {
+		return (buf == NioCompositeBuffer.MARKER ? channel.getCompositeQueue().peek().toBytes() : NioByteChannel.toBytes(buf));
+	}
+	
+	private void fireChannelWritabilityChanged(NioByteChannel channel) {
+		// only the handler which opts in writability changed events gets them.
+		if (!(channel.getHandler() instanceof IoWritabilityHandler)) {
+			return;
+		}
+		
+		NioByteChannelEvent.dispatch(ChannelEventType.CHANNEL_WRITABILITY_CHANGED, channel, null);
 	}
 	
 	private void fireChannelThrown(NioByteChannel channel, Exception e) {
-		dispatcher.dispatch(new NioByteChannelEvent(ChannelEventType.CHANNEL_THROWN, channel, handler, e));
+		NioByteChannelEvent.dispatch(ChannelEventType.CHANNEL_THROWN, channel, e);
 	}
 	
 	private void fireChannelClosed(NioByteChannel channel) {
-		dispatcher.dispatch(new NioByteChannelEvent(ChannelEventType.CHANNEL_CLOSED, channel, handler));
+		NioByteChannelEvent.dispatch(ChannelEventType.CHANNEL_CLOSED, channel, null);
 	}
 	
 	
@@ -670,6 +1654,7 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 	
 	private class ProcessThread implements Runnable {
 		public void run() {
+			ioThread = Thread.currentThread();
 			while (!shutdown) {
 				try {
 					int selected = select();
@@ -680,10 +1665,28 @@ public class NioProcessor extends NioReactor implements IoProcessor {
 					// register new channels
 					register();
 					
+					// update read interest of paused or resumed channels
+					updateReadInterest();
+					
 					if (selected > 0) { process(); }
 					
-					// close channels
+					// close channels, including all the channels of shutdown reactors
+					closeReactors();
 					close();
+					
+					// fire idle events of due channels and expire idle udp peers
+					long now = currentTimeMillis();
+					idleTimer.expire(now);
+					expireUdpPeers(now);
+					
+					// sample I/O rates of this processor with the precise clock, the coarse one may skew short intervals.
+					sampleRate(System.currentTimeMillis());
+					
+					// migrate a channel to rebalance processors
+					shed();
+					
+					// run submitted tasks and due scheduled tasks
+					runTasks();
 				} catch (Exception e) {
 					LOG.error("[CRAFT-ATOM-NIO] Process exception", e);
 				}
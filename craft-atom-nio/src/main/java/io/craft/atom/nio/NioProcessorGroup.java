@@ -0,0 +1,116 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.nio.api.NioConnectorConfig;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.ToString;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A group of processors shared by many TCP acceptors and connectors, so a process with lots of clients runs a fixed number of selector threads.
+ * <p>
+ * Each reactor registered onto the group keeps its own handler, dispatcher and channel settings (buffer size, event size, water mark),
+ * while processor settings (pool size, picker, fairness, idle timeout, ignored event types ...) are taken from the config of the group.
+ * <p>
+ * The group is reference counted, its creator holds one reference and each reactor built on it holds one.
+ * A reactor shutdown closes its own channels and releases its reference, the group {@link #shutdown()} releases the creator's reference,
+ * processors are shutdown once the last reference is released.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString(of = { "pool", "refCount" })
+public class NioProcessorGroup {
+
+
+	private static final Logger LOG = LoggerFactory.getLogger(NioProcessorGroup.class);
+
+
+	private final NioProcessorPool pool                               ;
+	private final AtomicInteger    refCount = new AtomicInteger(1)    ;
+	private final AtomicBoolean    shutdown = new AtomicBoolean(false);
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * Constructs a new group with default processor configuration.
+	 */
+	public NioProcessorGroup() {
+		this(new NioConnectorConfig());
+	}
+
+	/**
+	 * Constructs a new group with the specified processor configuration.
+	 *
+	 * @param config
+	 */
+	public NioProcessorGroup(NioConfig config) {
+		if (config == null) {
+			throw new IllegalArgumentException("config is null!");
+		}
+
+		this.pool = new NioProcessorPool(config);
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * Register a reactor onto the group.
+	 *
+	 * @return the shared processor pool
+	 * @throws IllegalStateException if the group is already shutdown.
+	 */
+	NioProcessorPool retain() {
+		for (;;) {
+			int count = refCount.get();
+			if (count <= 0) {
+				throw new IllegalStateException("The processor group is already shutdown.");
+			}
+			if (refCount.compareAndSet(count, count + 1)) {
+				return pool;
+			}
+		}
+	}
+
+	/**
+	 * Close all the channels of the reactor and release its reference.
+	 *
+	 * @param reactor
+	 */
+	void release(NioReactor reactor) {
+		pool.remove(reactor);
+		release();
+	}
+
+	/**
+	 * Release the creator's reference, the processors are shutdown after all the reactors on this group are shutdown.
+	 */
+	public void shutdown() {
+		if (shutdown.compareAndSet(false, true)) {
+			release();
+		}
+	}
+
+	private void release() {
+		if (refCount.decrementAndGet() == 0) {
+			pool.shutdown();
+			LOG.debug("[CRAFT-ATOM-NIO] Shutdown processor group successful");
+		}
+	}
+
+	/**
+	 * @return count of references, it is 1 (the creator) plus number of the alive reactors on this group.
+	 */
+	public int refCount() {
+		return refCount.get();
+	}
+
+}
@@ -1,10 +1,18 @@
 package io.craft.atom.nio;
 
-import io.craft.atom.io.IoHandler;
-import io.craft.atom.nio.spi.NioChannelEventDispatcher;
+import io.craft.atom.nio.spi.NioProcessorPicker;
+import io.craft.atom.util.thread.NamedThreadFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import lombok.Getter;
 import lombok.ToString;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 
 /**
  * A processor pool, use this pool internally to perform better in a multi-core environment.
@@ -12,21 +20,24 @@ import lombok.ToString;
  * @author mindwind
  * @version 1.0, Feb 22, 2013
  */
-@ToString(of = { "pool", "config" })
+@ToString(of = { "pool", "config", "picker" })
 public class NioProcessorPool {
 	
 	
-	@Getter private final NioProcessor[]            pool      ;
-	@Getter private final NioConfig                 config    ;
-	@Getter private final NioChannelEventDispatcher dispatcher;
-	@Getter private final IoHandler                 handler   ;
-	@Getter private final NioChannelIdleTimer       idleTimer ;
+	private static final Logger LOG                = LoggerFactory.getLogger(NioProcessorPool.class);
+	private static final long   REBALANCE_MIN_RATE = 64 * 1024                                      ;
+	
+	
+	@Getter private final NioProcessor[]           pool      ;
+	@Getter private final NioConfig                config    ;
+	@Getter private final NioProcessorPicker       picker    ;
+	        private       ScheduledExecutorService rebalancer;
 	
 	
 	// ~ ----------------------------------------------------------------------------------------------------------
 	
 	
-	public NioProcessorPool(NioConfig config, IoHandler handler, NioChannelEventDispatcher dispatcher) {
+	public NioProcessorPool(NioConfig config) {
 		if (config == null) {
 			throw new IllegalArgumentException("config is null!");
 		}
@@ -38,10 +49,19 @@ public class NioProcessorPool {
 		
 		this.pool       = new NioProcessor[size];
 		this.config     = config;
-		this.handler    = handler;
-		this.dispatcher = dispatcher;
-		this.idleTimer  = new NioChannelIdleTimer(dispatcher, handler, config.getIoTimeoutInMillis());
+		this.picker     = (config.getProcessorPicker() == null ? new NioChannelIdProcessorPicker() : config.getProcessorPicker());
 		fill(pool);
+		
+		int interval = config.getRebalanceIntervalInMillis();
+		if (interval > 0 && size > 1) {
+			this.rebalancer = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("craft-atom-nio-rebalancer"));
+			this.rebalancer.scheduleWithFixedDelay(new Runnable() {
+				@Override
+				public void run() {
+					rebalance();
+				}
+			}, interval, interval, TimeUnit.MILLISECONDS);
+		}
 	}
 	
 	
@@ -54,7 +74,7 @@ public class NioProcessorPool {
 		}
 
 		for (int i = 0; i < pool.length; i++) {
-			pool[i] = new NioProcessor(config, handler, dispatcher, idleTimer);
+			pool[i] = new NioProcessor(config);
 		}
 	}
 	
@@ -62,11 +82,55 @@ public class NioProcessorPool {
 	 * shutdown the pool
 	 */
 	public void shutdown() {
+		if (rebalancer != null) {
+			rebalancer.shutdownNow();
+		}
+		
 		for (int i = 0; i < pool.length; i++) {
 			pool[i].shutdown();
 		}
 	}
 	
+	/**
+	 * Close all the channels of the reactor in the pool, the processors keep running.
+	 * 
+	 * @param reactor
+	 */
+	void remove(NioReactor reactor) {
+		for (int i = 0; i < pool.length; i++) {
+			pool[i].remove(reactor);
+		}
+	}
+	
+	/**
+	 * Compare I/O rate of processors, if the hottest one is far above the coldest one, 
+	 * ask the hottest one to migrate a channel carrying at most half of the gap to the coldest one.
+	 * One channel is migrated at most per rebalance, so load converges gradually and never ping-pongs.
+	 */
+	void rebalance() {
+		try {
+			NioProcessor hot      = null;
+			NioProcessor cold     = null;
+			long         hotRate  = -1;
+			long         coldRate = Long.MAX_VALUE;
+			for (int i = 0; i < pool.length; i++) {
+				long rate = pool[i].ioRate();
+				if (rate > hotRate)  { hot  = pool[i]; hotRate  = rate; }
+				if (rate < coldRate) { cold = pool[i]; coldRate = rate; }
+			}
+			
+			long gap = hotRate - coldRate;
+			if (hot == cold || gap < REBALANCE_MIN_RATE || hotRate < (coldRate << 1)) {
+				return;
+			}
+			
+			LOG.debug("[CRAFT-ATOM-NIO] Rebalance |hot={}, hot-rate={}, cold={}, cold-rate={}|", hot, hotRate, cold, coldRate);
+			hot.shed(cold, gap >>> 1);
+		} catch (Exception e) {
+			LOG.warn("[CRAFT-ATOM-NIO] Rebalance exception", e);
+		}
+	}
+	
 	/**
 	 * Pick a nio processor object.
 	 * 
@@ -74,7 +138,7 @@ public class NioProcessorPool {
 	 * @return a nio processor.
 	 */
 	public NioProcessor pick(NioByteChannel channel) {
-		return pool[Math.abs((int) (channel.getId() % pool.length))];
+		return picker.pick(pool, channel);
 	}
 	
 }
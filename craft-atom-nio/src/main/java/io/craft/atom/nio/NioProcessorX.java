@@ -1,11 +1,21 @@
 package io.craft.atom.nio;
 
 import io.craft.atom.io.IoProcessorX;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * @author mindwind
  * @version 1.0, Oct 15, 2014
  */
+@ToString(callSuper = true)
 public class NioProcessorX extends NioReactorX implements IoProcessorX {
 
+	
+	@Getter @Setter private long ioBytes          ;
+	@Getter @Setter private long ioEvents         ;
+	@Getter @Setter private long ioBytesPerSecond ;
+	@Getter @Setter private long ioEventsPerSecond;
+	
 }
@@ -4,8 +4,11 @@ import io.craft.atom.io.IoHandler;
 import io.craft.atom.io.IoProcessorX;
 import io.craft.atom.io.IoReactor;
 import io.craft.atom.io.IoReactorX;
+import io.craft.atom.nio.spi.NioBufferSizePredictor;
 import io.craft.atom.nio.spi.NioBufferSizePredictorFactory;
 import io.craft.atom.nio.spi.NioChannelEventDispatcher;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import lombok.ToString;
 
 
@@ -27,6 +30,9 @@ abstract public class NioReactor implements IoReactor {
 	protected NioChannelEventDispatcher     dispatcher      ;
 	protected NioBufferSizePredictorFactory predictorFactory;
 	protected NioProcessorPool              pool            ;
+	protected NioProcessorGroup             group           ;
+	private   NioBufferSizePredictor        sharedPredictor ;
+	private   final AtomicBoolean           released        = new AtomicBoolean();
 	
 	
 	// ~ ----------------------------------------------------------------------------------------------------------
@@ -35,7 +41,13 @@ abstract public class NioReactor implements IoReactor {
 	@Override
 	public void shutdown() {
 		dispatcher.shutdown();
-		pool.shutdown();
+		if (group == null) {
+			pool.shutdown();
+		} else if (released.compareAndSet(false, true)) {
+			// processors of a shared group keep running for other reactors, just close channels of this reactor.
+			// the reference is released once, a repeated shutdown must not release the references of other reactors.
+			group.release(this);
+		}
 	}
 	
 	@Override
@@ -51,22 +63,54 @@ abstract public class NioReactor implements IoReactor {
 		return predictorFactory;
 	}
 	
+	/**
+	 * Called by the processor after a channel created by this reactor is closed.
+	 * 
+	 * @param channel
+	 */
+	void closed(NioByteChannel channel) {}
+	
+	/**
+	 * @param config
+	 * @return predictor of a new channel, idle channels share one stateless predictor in compact channel mode.
+	 */
+	protected NioBufferSizePredictor newPredictor(NioConfig config) {
+		if (!config.isCompactChannel()) {
+			return predictorFactory.newPredictor(config.getMinReadBufferSize(), config.getDefaultReadBufferSize(), config.getMaxReadBufferSize());
+		}
+		
+		// racy lazy init is harmless, the shared predictor has no state.
+		if (sharedPredictor == null) {
+			sharedPredictor = new NioSharedBufferSizePredictor(config.getDefaultReadBufferSize());
+		}
+		return sharedPredictor;
+	}
+	
+	/**
+	 * @return the predictor shared by idle channels in compact channel mode, <tt>null</tt> if no channel has used it yet.
+	 */
+	NioBufferSizePredictor getSharedPredictor() {
+		return sharedPredictor;
+	}
+	
 	protected IoReactorX x() {
 		NioReactorX x = new NioReactorX();
 		NioProcessor[] nps = pool.getPool();
 		int nc = 0;
 		int fc = 0;
 		int cc = 0;
+		int ac = 0;
 		for (NioProcessor np : nps) {
 			IoProcessorX px = np.x();
 			nc += px.newChannelCount();
 			fc += px.flushingChannelCount();
 			cc += px.closingChannelCount();
+			ac += np.channelCount();
 		}
 		x.setNewChannelCount(nc);
 		x.setFlushingChannelCount(fc);
 		x.setClosingChannelCount(cc);
-		x.setAliveChannelCount(pool.getIdleTimer().aliveChannels().size());
+		x.setAliveChannelCount(ac);
 		return x;
 	}
 
@@ -0,0 +1,129 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.nio.spi.NioReadBufferHandler;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import lombok.ToString;
+
+/**
+ * A reference counted view of bytes read from channel, it is backed by a pooled direct buffer without any copy.
+ * <p>
+ * The buffer is created with reference count 1, the handler which receives it must call {@link #release()} once it is
+ * no longer used, then the backing buffer is given back to the pool and its content may be overwritten by next read.
+ * Call {@link #retain()} before pass it to another thread which also calls {@link #release()}.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ * @see NioReadBufferHandler
+ */
+@ToString(of = { "view", "refCount" })
+public class NioReadBuffer {
+
+
+	private static final AtomicIntegerFieldUpdater<NioReadBuffer> REF_COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(NioReadBuffer.class, "refCount");
+
+
+	private final    ByteBuffer        buf         ;
+	private final    ByteBuffer        view        ;
+	private final    NioByteBufferPool pool        ;
+	private volatile int               refCount = 1;
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * @param buf  flipped buffer which is acquired from the pool
+	 * @param pool
+	 */
+	NioReadBuffer(ByteBuffer buf, NioByteBufferPool pool) {
+		this.buf  = buf;
+		this.view = buf.slice();
+		this.pool = pool;
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * @return a view of read bytes, position is zero and limit is the read byte size. It may be a direct buffer.
+	 */
+	public ByteBuffer buffer() {
+		ensureAccessible();
+		return view;
+	}
+
+	/**
+	 * @return read byte size.
+	 */
+	public int size() {
+		return view.limit();
+	}
+
+	/**
+	 * Copy read bytes to a new byte array, it is a convenient way to fall back to <code>byte[]</code> API.
+	 *
+	 * @return a new byte array.
+	 */
+	public byte[] bytes() {
+		ensureAccessible();
+		byte[] bytes = new byte[view.limit()];
+		view.duplicate().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * @return current reference count.
+	 */
+	public int refCount() {
+		return refCount;
+	}
+
+	/**
+	 * Increases the reference count by 1.
+	 *
+	 * @return this buffer
+	 */
+	public NioReadBuffer retain() {
+		for (;;) {
+			int rc = refCount;
+			if (rc <= 0) {
+				throw new IllegalStateException("Buffer already released");
+			}
+			if (REF_COUNT_UPDATER.compareAndSet(this, rc, rc + 1)) {
+				return this;
+			}
+		}
+	}
+
+	/**
+	 * Decreases the reference count by 1 and gives back the backing buffer to the pool once the count reaches 0.
+	 *
+	 * @return <tt>true</tt> if and only if the reference count became 0 and the buffer has been released.
+	 */
+	public boolean release() {
+		for (;;) {
+			int rc = refCount;
+			if (rc <= 0) {
+				throw new IllegalStateException("Buffer already released");
+			}
+			if (REF_COUNT_UPDATER.compareAndSet(this, rc, rc - 1)) {
+				if (rc == 1) {
+					pool.release(buf);
+					return true;
+				}
+				return false;
+			}
+		}
+	}
+
+	private void ensureAccessible() {
+		if (refCount <= 0) {
+			throw new IllegalStateException("Buffer already released");
+		}
+	}
+
+}
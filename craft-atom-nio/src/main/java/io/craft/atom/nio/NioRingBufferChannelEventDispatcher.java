@@ -0,0 +1,299 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.ChannelEvent;
+import io.craft.atom.io.ChannelEventType;
+import io.craft.atom.io.IoHandler;
+import io.craft.atom.nio.spi.AbstractNioChannelEventDispatcher;
+import io.craft.atom.util.thread.NamedThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.ToString;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link NioRingBufferChannelEventDispatcher} that maintains order of {@link NioByteChannelEvent} in the same channel.
+ * <p>
+ * Events are sharded by channel id, each shard has a pre-allocated ring buffer of reusable slots and one consumer thread,
+ * so events of a channel are fired in order by the same thread.
+ * Publishing an event claims a slot with a CAS on the shard cursor and fills the event fields into the slot,
+ * the events fired by processors are never allocated as objects, nor is any queue node.
+ * <p>
+ * A publisher waits if the ring is full, which bounds the pending events of a shard by ring size.
+ * As the publisher is usually a processor thread, a full ring stalls I/O of all the channels on that processor until a slot is released,
+ * so the ring should be sized for the bursts of the slowest handler. The publisher yields and then parks while waiting whatever the wait strategy,
+ * a full ring never spins the selector thread hot.
+ * <p>
+ * The consumer waits for events with the {@link WaitStrategy}, busy spin and yield trade cpu for latency,
+ * park is the cheapest one and still wakes up on publish.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString(callSuper = true, of = { "waitStrategy", "ringSize", "shards" })
+public class NioRingBufferChannelEventDispatcher extends AbstractNioChannelEventDispatcher {
+
+
+	private static final Logger LOG         = LoggerFactory.getLogger(NioRingBufferChannelEventDispatcher.class);
+	private static final long   PARK_NANOS  = TimeUnit.MILLISECONDS.toNanos(1)                                 ;
+	private static final long   RETRY_NANOS = TimeUnit.MICROSECONDS.toNanos(1)                                 ;
+	private static final int    YIELD_TRIES = 64                                                               ;
+
+
+	private final    WaitStrategy    waitStrategy;
+	private final    int             ringSize    ;
+	private final    Shard[]         shards      ;
+	private final    ExecutorService executor    ;
+	private volatile boolean         shutdown    ;
+
+
+	// ~ ------------------------------------------------------------------------------------------------------------
+
+
+	public NioRingBufferChannelEventDispatcher() {
+		this(Runtime.getRuntime().availableProcessors(), 1024, WaitStrategy.PARK, Integer.MAX_VALUE);
+	}
+
+	public NioRingBufferChannelEventDispatcher(int executorSize, int ringSize, WaitStrategy waitStrategy, int totalEventSize) {
+		super(totalEventSize);
+
+		if (executorSize <= 0) {
+			executorSize = Runtime.getRuntime().availableProcessors();
+		}
+		if (ringSize <= 0) {
+			ringSize = 1024;
+		}
+		if (waitStrategy == null) {
+			waitStrategy = WaitStrategy.PARK;
+		}
+
+		// round up to power of 2 for index mask
+		int size = 1;
+		while (size < ringSize) {
+			size <<= 1;
+		}
+
+		this.ringSize     = size;
+		this.waitStrategy = waitStrategy;
+		this.shards       = new Shard[executorSize];
+		this.executor     = Executors.newFixedThreadPool(executorSize, new NamedThreadFactory("craft-atom-nio-ring-buffer-dispatcher"));
+		for (int i = 0; i < executorSize; i++) {
+			shards[i] = new Shard(size);
+		}
+		for (int i = 0; i < executorSize; i++) {
+			executor.execute(shards[i]);
+		}
+	}
+
+
+	// ~ ------------------------------------------------------------------------------------------------------------
+
+
+	@Override
+	public void dispatch(ChannelEvent<byte[]> event) {
+		NioByteChannel channel = (NioByteChannel) event.getChannel();
+		beforeDispatch(channel);
+		shard(channel).publish(event, null, channel, null, null);
+	}
+	
+	/**
+	 * Fill the event fields into a slot without allocating an event object.
+	 */
+	@Override
+	public void publish(ChannelEventType type, NioByteChannel channel, IoHandler handler, Object parameter) {
+		beforeDispatch(channel);
+		shard(channel).publish(null, type, channel, handler, parameter);
+	}
+	
+	private Shard shard(NioByteChannel channel) {
+		return shards[(int) (Math.abs(channel.getId()) % shards.length)];
+	}
+
+	@Override
+	public void shutdown() {
+		shutdown = true;
+		executor.shutdownNow();
+	}
+
+
+	// ~ ------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * Strategy of waiting for a slot to be published or released.
+	 */
+	public enum WaitStrategy {
+
+		/** Spin without giving up cpu, the lowest latency and a core is dedicated to each consumer. */
+		BUSY_SPIN,
+
+		/** Spin and yield cpu to other threads. */
+		YIELD,
+
+		/** Park the waiting thread, the consumer is unparked on publish. */
+		PARK
+
+	}
+
+	/**
+	 * A reusable slot, it holds either an event object dispatched through {@link #dispatch(ChannelEvent)} or the fields of a published event.
+	 */
+	private static class Slot {
+
+		private volatile long                 sequence = -1;
+		private          ChannelEvent<byte[]> event        ;
+		private          ChannelEventType     type         ;
+		private          NioByteChannel       channel      ;
+		private          IoHandler            handler      ;
+		private          Object               parameter    ;
+
+		private void clear() {
+			event     = null;
+			type      = null;
+			channel   = null;
+			handler   = null;
+			parameter = null;
+		}
+
+	}
+
+	@ToString(of = { "cursor", "consumed" })
+	private class Shard implements Runnable {
+
+
+		private final    Slot[]     slots                     ;
+		private final    int        mask                      ;
+		private final    AtomicLong cursor   = new AtomicLong();
+		private volatile long       consumed                  ;
+		private volatile Thread     thread                    ;
+		private volatile boolean    waiting                   ;
+
+
+		Shard(int size) {
+			this.slots = new Slot[size];
+			this.mask  = size - 1;
+			for (int i = 0; i < size; i++) {
+				slots[i] = new Slot();
+			}
+		}
+
+
+		void publish(ChannelEvent<byte[]> event, ChannelEventType type, NioByteChannel channel, IoHandler handler, Object parameter) {
+			// claim a sequence, wait if the ring is full
+			long seq;
+			int  tries = 0;
+			for (;;) {
+				seq = cursor.get();
+				if (seq - consumed >= slots.length) {
+					if (shutdown) {
+						// the permits acquired before dispatch are given back, or reading of the channel stays throttled.
+						LOG.debug("[CRAFT-ATOM-NIO] Drop event because dispatcher is shutdown, |channel={}|", channel);
+						afterDispatch(channel);
+						return;
+					}
+					waitForSlot(tries++);
+					continue;
+				}
+				if (cursor.compareAndSet(seq, seq + 1)) {
+					break;
+				}
+			}
+
+			// fill and publish the slot, the volatile write of sequence makes the event visible to consumer.
+			Slot slot = slots[(int) (seq & mask)];
+			slot.event     = event;
+			slot.type      = type;
+			slot.channel   = channel;
+			slot.handler   = handler;
+			slot.parameter = parameter;
+			slot.sequence  = seq;
+			if (waiting) {
+				LockSupport.unpark(thread);
+			}
+		}
+
+		@Override
+		public void run() {
+			thread = Thread.currentThread();
+			long next = 0;
+			while (!shutdown && !thread.isInterrupted()) {
+				Slot slot = slots[(int) (next & mask)];
+				if (slot.sequence != next) {
+					idle(slot, next);
+					continue;
+				}
+
+				// release the slot before firing, so publishers are not blocked by a slow handler.
+				ChannelEvent<byte[]> event     = slot.event;
+				ChannelEventType     type      = slot.type;
+				NioByteChannel       channel   = slot.channel;
+				IoHandler            handler   = slot.handler;
+				Object               parameter = slot.parameter;
+				slot.clear();
+				consumed = ++next;
+				fire(event, type, channel, handler, parameter);
+			}
+		}
+		
+		/**
+		 * The publisher may be a processor thread, it never busy spins on a full ring.
+		 * 
+		 * @param tries
+		 */
+		private void waitForSlot(int tries) {
+			if (tries < YIELD_TRIES) {
+				Thread.yield();
+			} else {
+				LockSupport.parkNanos(this, RETRY_NANOS);
+			}
+		}
+
+		private void idle(Slot slot, long next) {
+			if (waitStrategy != WaitStrategy.PARK) {
+				waitFor(RETRY_NANOS);
+				return;
+			}
+
+			// check again after publishing waiting state, an event published before it is not missed.
+			waiting = true;
+			if (slot.sequence != next) {
+				waitFor(PARK_NANOS);
+			}
+			waiting = false;
+		}
+
+		private void waitFor(long parkNanos) {
+			switch (waitStrategy) {
+			case BUSY_SPIN:
+				break;
+			case YIELD:
+				Thread.yield();
+				break;
+			default:
+				LockSupport.parkNanos(this, parkNanos);
+			}
+		}
+
+		private void fire(ChannelEvent<byte[]> event, ChannelEventType type, NioByteChannel channel, IoHandler handler, Object parameter) {
+			try {
+				if (event == null) {
+					NioByteChannelEvent.fire(type, channel, handler, parameter);
+				} else {
+					event.fire();
+				}
+			} catch (Throwable t) {
+				LOG.warn("[CRAFT-ATOM-NIO] Fire event exception", t);
+			} finally {
+				afterDispatch(channel);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,27 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.nio.spi.NioProcessorPicker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.ToString;
+
+/**
+ * A {@link NioProcessorPicker} picks processor in turn, regardless of channel id.
+ * 
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString
+public class NioRoundRobinProcessorPicker implements NioProcessorPicker {
+	
+	
+	private final AtomicInteger index = new AtomicInteger(0);
+	
+
+	@Override
+	public NioProcessor pick(NioProcessor[] processors, NioByteChannel channel) {
+		return processors[(index.getAndIncrement() & Integer.MAX_VALUE) % processors.length];
+	}
+
+}
@@ -0,0 +1,97 @@
+package io.craft.atom.nio;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import lombok.ToString;
+
+/**
+ * A task scheduled on the process thread of a {@link NioProcessor}, it runs once after a delay or periodically at a fixed rate.
+ * <p>
+ * The task is kept in a heap owned by the process thread, the nearest deadline bounds the select timeout of the processor.
+ * Cancelled tasks are purged from the heap once they pile up, so early cancelled timeouts are not retained until their deadlines.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString(of = { "task", "deadline", "period", "state" })
+public class NioScheduledTask implements Comparable<NioScheduledTask> {
+	
+	
+	private static final AtomicIntegerFieldUpdater<NioScheduledTask> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(NioScheduledTask.class, "state");
+	private static final int                                         SCHEDULED     = 0                                                                      ;
+	private static final int                                         CANCELLED     = 1                                                                      ;
+	private static final int                                         DONE          = 2                                                                      ;
+
+
+	final            NioProcessor processor;
+	final            Runnable     task     ;
+	final            long         period   ;
+	final            long         sequence ;
+	volatile         long         deadline ;
+	private volatile int          state    ;
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	NioScheduledTask(NioProcessor processor, Runnable task, long deadline, long period, long sequence) {
+		this.processor = processor;
+		this.task      = task;
+		this.deadline  = deadline;
+		this.period    = period;
+		this.sequence  = sequence;
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * Cancel the task, it does not interrupt the task if it is running.
+	 *
+	 * @return <tt>false</tt> if the task is already done or cancelled.
+	 */
+	public boolean cancel() {
+		if (!STATE_UPDATER.compareAndSet(this, SCHEDULED, CANCELLED)) {
+			return false;
+		}
+		processor.cancelled(this);
+		return true;
+	}
+
+	public boolean isCancelled() {
+		return state == CANCELLED;
+	}
+
+	/**
+	 * @return <tt>true</tt> if a one-shot task has started running, or a periodic task stopped by an exception.
+	 */
+	public boolean isDone() {
+		return state == DONE;
+	}
+
+	/**
+	 * @param unit
+	 * @return remaining delay to next run.
+	 */
+	public long getDelay(TimeUnit unit) {
+		return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @return <tt>false</tt> if the task is already cancelled.
+	 */
+	boolean setDone() {
+		return STATE_UPDATER.compareAndSet(this, SCHEDULED, DONE);
+	}
+
+	@Override
+	public int compareTo(NioScheduledTask o) {
+		if (deadline != o.deadline) {
+			return (deadline - o.deadline < 0 ? -1 : 1);
+		}
+		return (sequence < o.sequence ? -1 : (sequence == o.sequence ? 0 : 1));
+	}
+
+}
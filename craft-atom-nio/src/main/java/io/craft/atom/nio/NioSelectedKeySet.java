@@ -0,0 +1,136 @@
+package io.craft.atom.nio;
+
+import java.lang.reflect.Field;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An array backed selected key set replaces the <code>HashSet</code> of JDK selector implementation,
+ * so that selected keys are added and iterated without any allocation or hashing.
+ * <p>
+ * Not thread safe, it is only accessed by the processor thread which owns the selector.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+class NioSelectedKeySet extends AbstractSet<SelectionKey> {
+
+
+	private static final Logger LOG = LoggerFactory.getLogger(NioSelectedKeySet.class);
+
+
+	private SelectionKey[] keys = new SelectionKey[1024];
+	private int            size                         ;
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * Replace the selected key set of the selector with an array backed one.
+	 *
+	 * @param selector
+	 * @return the installed key set, or <tt>null</tt> if the selector implementation does not support it.
+	 */
+	static NioSelectedKeySet install(Selector selector) {
+		try {
+			Class<?> clazz = Class.forName("sun.nio.ch.SelectorImpl", false, NioSelectedKeySet.class.getClassLoader());
+			if (!clazz.isAssignableFrom(selector.getClass())) {
+				return null;
+			}
+
+			Field selectedKeysField       = clazz.getDeclaredField("selectedKeys");
+			Field publicSelectedKeysField = clazz.getDeclaredField("publicSelectedKeys");
+			selectedKeysField.setAccessible(true);
+			publicSelectedKeysField.setAccessible(true);
+
+			NioSelectedKeySet set = new NioSelectedKeySet();
+			selectedKeysField.set(selector, set);
+			publicSelectedKeysField.set(selector, set);
+			return set;
+		} catch (Throwable t) {
+			LOG.debug("[CRAFT-ATOM-NIO] Fail to install optimized selected key set, fall back to default", t);
+			return null;
+		}
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	@Override
+	public boolean add(SelectionKey key) {
+		if (key == null) {
+			return false;
+		}
+
+		if (size == keys.length) {
+			SelectionKey[] newKeys = new SelectionKey[keys.length << 1];
+			System.arraycopy(keys, 0, newKeys, 0, size);
+			keys = newKeys;
+		}
+		keys[size++] = key;
+		return true;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		return false;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return false;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Iterator<SelectionKey> iterator() {
+		return new Iterator<SelectionKey>() {
+			private int idx = 0;
+
+			@Override
+			public boolean hasNext() {
+				return idx < size;
+			}
+
+			@Override
+			public SelectionKey next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return keys[idx++];
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	SelectionKey get(int i) {
+		return keys[i];
+	}
+
+	/**
+	 * Clear the key set and release references of the selected keys.
+	 */
+	void reset() {
+		for (int i = 0; i < size; i++) {
+			keys[i] = null;
+		}
+		size = 0;
+	}
+
+}
@@ -0,0 +1,40 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.nio.spi.NioBufferSizePredictor;
+import lombok.ToString;
+
+/**
+ * A stateless predictor shared by idle channels in compact channel mode, it always predicts the same size.
+ * A channel replaces it by its own predictor once a read fills the predicted buffer, and goes back to it when its reads are small again.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ * @see NioByteChannel#predict(int)
+ */
+@ToString(of = "size")
+class NioSharedBufferSizePredictor implements NioBufferSizePredictor {
+
+
+	private final int size;
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	NioSharedBufferSizePredictor(int size) {
+		this.size = size;
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	@Override
+	public int next() {
+		return size;
+	}
+
+	@Override
+	public void previous(int previousSize) {}
+
+}
@@ -7,11 +7,17 @@ import io.craft.atom.nio.spi.NioBufferSizePredictorFactory;
 import io.craft.atom.nio.spi.NioChannelEventDispatcher;
 
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.SocketAddress;
 import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.ToString;
 
@@ -31,6 +37,11 @@ public class NioTcpAcceptor extends NioAcceptor {
 	private static final Logger LOG = LoggerFactory.getLogger(NioTcpAcceptor.class);
 	
 	
+	private final    AtomicInteger                             aliveChannelCount = new AtomicInteger()                                 ;
+	private final    ConcurrentMap<InetAddress, AtomicInteger> ipChannelCounts   = new ConcurrentHashMap<InetAddress, AtomicInteger>();
+	private volatile NioAcceptTokenBucket                      bucket                                                                  ;
+	
+	
 	// ~ -------------------------------------------------------------------------------------------------------------
 	
 	
@@ -81,13 +92,17 @@ public class NioTcpAcceptor extends NioAcceptor {
 	public NioTcpAcceptor(IoHandler handler, NioAcceptorConfig config, NioChannelEventDispatcher dispatcher, NioBufferSizePredictorFactory predictorFactory) {
 		super(handler, config, dispatcher, predictorFactory);
 	}
+
+	public NioTcpAcceptor(IoHandler handler, NioAcceptorConfig config, NioChannelEventDispatcher dispatcher, NioBufferSizePredictorFactory predictorFactory, NioProcessorGroup group) {
+		super(handler, config, dispatcher, predictorFactory, group);
+	}
 	
 	
 	// ~ -------------------------------------------------------------------------------------------------------------
 
 	
 	@Override
-	protected void bindByProtocol(SocketAddress address) throws IOException {
+	protected void bindByProtocol(SocketAddress address, Selector selector) throws IOException {
 		ServerSocketChannel ssc = ServerSocketChannel.open();
 		ssc.configureBlocking(false);
 		ServerSocket ss = ssc.socket();
@@ -103,28 +118,52 @@ public class NioTcpAcceptor extends NioAcceptor {
             return null;
         }
 		
+		// accept a batch of pending connections per select, it saves a select round trip for each connection in a reconnect storm.
 		ServerSocketChannel ssc = (ServerSocketChannel) key.channel();
-		SocketChannel sc = null;
-		try {
-			sc = ssc.accept();
-			if (sc == null)              {            return null; }
-			if (isChannelSizeOverflow()) { close(sc); return null; }
+		NioAcceptTokenBucket bucket = bucket();
+		NioByteChannel channel = null;
+		for (int i = 0; i < config.getAcceptBatchSize(); i++) {
+			if (bucket != null && !bucket.tryTake()) {
+				pause(key);
+				break;
+			}
+			
+			SocketChannel sc = ssc.accept();
+			if (sc == null) {
+				if (bucket != null) { bucket.giveBack(); }
+				break;
+			}
 			
+			NioByteChannel accepted = accept(sc);
+			if (accepted != null) { channel = accepted; }
+		}
+		return channel;
+	}
+	
+	private NioByteChannel accept(SocketChannel sc) throws IOException {
+		InetAddress ip = sc.socket().getInetAddress();
+		if (isChannelSizeOverflow())     { close(sc); return null; }
+		if (isIpChannelSizeOverflow(ip)) { close(sc); return null; }
+		aliveChannelCount.incrementAndGet();
+		
+		try {
 			sc.configureBlocking(false);
-			NioByteChannel channel = new NioTcpByteChannel(sc, config, predictorFactory.newPredictor(config.getMinReadBufferSize(), config.getDefaultReadBufferSize(), config.getMaxReadBufferSize()), dispatcher);
+			NioByteChannel channel = new NioTcpByteChannel(sc, config, newPredictor(config), dispatcher);
+			channel.setReactor(this);
 			NioProcessor processor = pool.pick(channel);
 			processor.setProtocol(IoProtocol.TCP);
 			channel.setProcessor(processor);
 			processor.add(channel);
 			return channel;
 		} catch (IOException e) {
+			release(ip);
 			close(sc);
 			throw e;
 		}
 	}
 	
-	private boolean isChannelSizeOverflow() throws IOException {
-		int currentChannelSize = x().aliveChannelCount();
+	private boolean isChannelSizeOverflow() {
+		int currentChannelSize = aliveChannelCount.get();
 		int allowChannelSize = config.getChannelSize();
 		if (currentChannelSize >= allowChannelSize) {
 			LOG.warn("[CRAFT-ATOM-NIO] Channel size overflow, |allowChannelSize={}, currentChannelSize={}|", allowChannelSize, currentChannelSize);
@@ -133,6 +172,108 @@ public class NioTcpAcceptor extends NioAcceptor {
 		return false;
 	}
 	
+	/**
+	 * Takes a slot of the remote ip if it does not overflow.
+	 * A counter dropped to zero is being removed by a closing channel, it is never increased again, a new counter replaces it.
+	 */
+	private boolean isIpChannelSizeOverflow(InetAddress ip) {
+		int allowChannelSize = config.getIpChannelSize();
+		if (allowChannelSize == Integer.MAX_VALUE || ip == null) {
+			return false;
+		}
+		
+		for (;;) {
+			AtomicInteger counter = ipChannelCounts.get(ip);
+			if (counter == null) {
+				if (ipChannelCounts.putIfAbsent(ip, new AtomicInteger(1)) == null) {
+					return false;
+				}
+				continue;
+			}
+			
+			int currentChannelSize = counter.get();
+			if (currentChannelSize == 0) {
+				ipChannelCounts.remove(ip, counter);
+				continue;
+			}
+			if (currentChannelSize >= allowChannelSize) {
+				LOG.warn("[CRAFT-ATOM-NIO] Ip channel size overflow, |ip={}, allowChannelSize={}, currentChannelSize={}|", ip, allowChannelSize, currentChannelSize);
+				return true;
+			}
+			if (counter.compareAndSet(currentChannelSize, currentChannelSize + 1)) {
+				return false;
+			}
+		}
+	}
+	
+	private void release(InetAddress ip) {
+		aliveChannelCount.decrementAndGet();
+		if (ip == null) { return; }
+		
+		AtomicInteger counter = ipChannelCounts.get(ip);
+		if (counter != null && counter.decrementAndGet() == 0) {
+			ipChannelCounts.remove(ip, counter);
+		}
+	}
+	
+	@Override
+	void closed(NioByteChannel channel) {
+		SocketAddress address = channel.getRemoteAddress();
+		release(address instanceof InetSocketAddress ? ((InetSocketAddress) address).getAddress() : null);
+	}
+	
+	/**
+	 * @return token bucket if accept rate is limited, it is shared by all the accept threads.
+	 */
+	private NioAcceptTokenBucket bucket() {
+		// racy lazy init is harmless, a lost bucket only gives away its burst once.
+		if (bucket == null && config.getAcceptRate() != Integer.MAX_VALUE) {
+			int rate = config.getAcceptRate();
+			bucket = new NioAcceptTokenBucket(rate, config.getAcceptBurst() > 0 ? config.getAcceptBurst() : rate);
+		}
+		return bucket;
+	}
+	
+	/**
+	 * Stops selecting the server socket until tokens refilled, pending connections wait in the listen backlog.
+	 */
+	private void pause(SelectionKey key) {
+		key.interestOps(0);
+	}
+	
+	/**
+	 * @return <tt>true</tt> if any server socket of the selector is paused, a selector has only a few server sockets.
+	 */
+	private boolean isPaused(Selector selector) {
+		for (SelectionKey key : selector.keys()) {
+			if (key.isValid() && key.interestOps() == 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	@Override
+	protected long selectTimeout(Selector selector) {
+		if (bucket == null || !isPaused(selector)) {
+			return 0;
+		}
+		return Math.max(1, bucket.waitMillis());
+	}
+	
+	@Override
+	protected void resumeAccept(Selector selector) {
+		if (bucket == null || !bucket.hasToken()) {
+			return;
+		}
+		
+		for (SelectionKey key : selector.keys()) {
+			if (key.isValid() && key.interestOps() == 0) {
+				key.interestOps(SelectionKey.OP_ACCEPT);
+			}
+		}
+	}
+	
 	private void close(SocketChannel sc) {
 		if (sc == null) { return; }
 		
@@ -5,6 +5,7 @@ import io.craft.atom.nio.spi.NioChannelEventDispatcher;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
@@ -57,6 +58,16 @@ public class NioTcpByteChannel extends NioByteChannel {
 		return socketChannel.write(buf);
 	}
 	
+	@Override
+	protected long writeTcp(ByteBuffer[] bufs, int offset, int length) throws IOException {
+		return socketChannel.write(bufs, offset, length);
+	}
+	
+	@Override
+	protected long transferTcp(FileChannel file, long position, long count) throws IOException {
+		return file.transferTo(position, count, socketChannel);
+	}
+	
 	@Override
 	protected void close0() throws IOException {
 		SelectionKey key = getSelectionKey();
@@ -17,6 +17,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import lombok.ToString;
@@ -40,6 +41,7 @@ public class NioTcpConnector extends NioConnector {
 	private final Queue<ConnectionCall>          connectQueue     = new ConcurrentLinkedQueue<ConnectionCall>();
 	private final Queue<ConnectionCall>          cancelQueue      = new ConcurrentLinkedQueue<ConnectionCall>();
 	private final AtomicReference<ConnectThread> connectThreadRef = new AtomicReference<ConnectThread>()       ;
+	private final AtomicBoolean                  terminated       = new AtomicBoolean(false)                   ;
 	
 	
 	// ~ ------------------------------------------------------------------------------------------------------------
@@ -60,6 +62,10 @@ public class NioTcpConnector extends NioConnector {
 	public NioTcpConnector(IoHandler handler, NioConnectorConfig config, NioChannelEventDispatcher dispatcher, NioBufferSizePredictorFactory predictorFactory) {
 		super(handler, config, dispatcher, predictorFactory);
 	}
+
+	public NioTcpConnector(IoHandler handler, NioConnectorConfig config, NioChannelEventDispatcher dispatcher, NioBufferSizePredictorFactory predictorFactory, NioProcessorGroup group) {
+		super(handler, config, dispatcher, predictorFactory, group);
+	}
 	
 	
 	// ~ ------------------------------------------------------------------------------------------------------------
@@ -222,7 +228,26 @@ public class NioTcpConnector extends NioConnector {
 		return n;
 	}
 	
+	@Override
+	public void shutdown() {
+		super.shutdown();
+		
+		// connect thread exits once no connection is pending, then shutdown here.
+		if (connectThreadRef.get() == null) {
+			try {
+				shutdown0();
+			} catch (Exception e) {
+				LOG.error("[CRAFT-ATOM-NIO] Shutdown error", e);
+			}
+		}
+	}
+	
 	private void shutdown0() throws IOException {
+		// connect thread and shutdown caller may both get here
+		if (!terminated.compareAndSet(false, true)) {
+			return;
+		}
+		
 		// clear queues
 		this.connectQueue.clear();
 		this.cancelQueue.clear();
@@ -231,7 +256,7 @@ public class NioTcpConnector extends NioConnector {
 		this.selector.close();
 		
 		// shutdown all the processor in the pool
-		super.shutdown();
+		shutdownReactor();
 		LOG.debug("[CRAFT-ATOM-NIO] Shutdown connector successful");
 	}
 	
@@ -305,7 +330,8 @@ public class NioTcpConnector extends NioConnector {
 
 		@Override
 		public Channel<byte[]> call() throws Exception {
-			NioByteChannel channel = new NioTcpByteChannel(socketChannel, config, predictorFactory.newPredictor(config.getMinReadBufferSize(), config.getDefaultReadBufferSize(), config.getMaxReadBufferSize()), dispatcher);
+			NioByteChannel channel = new NioTcpByteChannel(socketChannel, config, newPredictor(config), dispatcher);
+			channel.setReactor(NioTcpConnector.this);
 			NioProcessor processor = pool.pick(channel);
 			processor.setProtocol(IoProtocol.TCP);
 			channel.setProcessor(processor);
@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.net.SocketAddress;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 
 import lombok.ToString;
 
@@ -76,14 +77,15 @@ public class NioUdpAcceptor extends NioAcceptor {
 
 	
 	@Override
-	protected void bindByProtocol(SocketAddress address) throws IOException {
+	protected void bindByProtocol(SocketAddress address, Selector selector) throws IOException {
 		DatagramChannel dc = DatagramChannel.open();
 		dc.configureBlocking(false);
 		dc.socket().setReuseAddress(config.isReuseAddress());
 		dc.socket().bind(address);
 		boundmap.put(address, dc);
 		
-		NioByteChannel channel = new NioUdpByteChannel(dc, config, predictorFactory.newPredictor(config.getMinReadBufferSize(), config.getDefaultReadBufferSize(), config.getMaxReadBufferSize()), dispatcher);
+		NioByteChannel channel = new NioUdpByteChannel(dc, config, newPredictor(config), dispatcher);
+		channel.setReactor(this);
 		NioProcessor processor = pool.pick(channel);
 		processor.setProtocol(IoProtocol.UDP);
 		channel.setProcessor(processor);
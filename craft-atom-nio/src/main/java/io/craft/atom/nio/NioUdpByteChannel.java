@@ -8,34 +8,59 @@ import java.net.SocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import lombok.ToString;
 
 
 /**
  * A nio channel for datagram-oriented sockets.
- * 
+ * <p>
+ * The channel bound to a local address receives datagrams of all the peers,
+ * each remote peer is represented by a peer channel which shares the datagram socket and writes to the peer only.
+ * Peer channels are kept in a LRU ordered map, only accessed by processor thread.
+ *
  * @author mindwind
  * @version 1.0, Feb 22, 2013
  */
-@ToString(callSuper = true)
+@ToString(callSuper = true, of = { "datagramChannel" })
 public class NioUdpByteChannel extends NioByteChannel {
-	
-	
-	private DatagramChannel datagramChannel; 
-	
+
+
+	private final DatagramChannel                       datagramChannel;
+	private final NioUdpByteChannel                     parent         ;
+	private final Map<SocketAddress, NioUdpByteChannel> peers          ;
+
 
 	public NioUdpByteChannel(DatagramChannel datagramChannel, NioConfig config, NioBufferSizePredictor predictor, NioChannelEventDispatcher dispatcher) {
 		super(config, predictor, dispatcher);
-		
+
 		if (datagramChannel == null) {
 			throw new IllegalArgumentException("DatagramChannel can not be null.");
 		}
-		
+
 		this.datagramChannel = datagramChannel;
-		this.localAddress = datagramChannel.socket().getLocalSocketAddress();
+		this.localAddress    = datagramChannel.socket().getLocalSocketAddress();
+		this.parent          = null;
+		this.peers           = new LinkedHashMap<SocketAddress, NioUdpByteChannel>(16, 0.75f, true);
 	}
 
+	NioUdpByteChannel(NioUdpByteChannel parent, SocketAddress remoteAddress, NioConfig config) {
+		super(config, parent.getPredictor(), parent.dispatcher);
+		this.datagramChannel = parent.datagramChannel;
+		this.localAddress    = parent.localAddress;
+		this.remoteAddress   = remoteAddress;
+		this.parent          = parent;
+		this.peers           = null;
+		this.reactor         = parent.reactor;
+	}
+
+
+	// ~ ------------------------------------------------------------------------------------------------------------
+
+
 	@Override
 	protected SocketAddress readUdp(ByteBuffer buf) throws IOException {
 		return datagramChannel.receive(buf);
@@ -51,4 +76,21 @@ public class NioUdpByteChannel extends NioByteChannel {
 		return datagramChannel;
 	}
 
+	@Override
+	SelectionKey getSelectionKey() {
+		// peer channel shares the selection key of its parent
+		return (parent == null ? selectionKey : parent.getSelectionKey());
+	}
+
+	NioUdpByteChannel getParent() {
+		return parent;
+	}
+
+	/**
+	 * @return peer channels of the bound channel in LRU order, the least recently read one is first.
+	 */
+	Map<SocketAddress, NioUdpByteChannel> getPeers() {
+		return peers;
+	}
+
 }
@@ -13,13 +13,18 @@ import lombok.ToString;
  * @author mindwind
  * @version 1.0, Feb 22, 2013
  */
-@ToString(callSuper = true, of = { "reuseAddress", "backlog" })
+@ToString(callSuper = true, of = { "reuseAddress", "channelSize", "ipChannelSize", "backlog", "acceptorPoolSize", "acceptBatchSize", "acceptRate", "acceptBurst" })
 public class NioAcceptorConfig extends NioConfig {
 	
 	
-	@Getter @Setter private boolean reuseAddress = true             ;
-	@Getter @Setter private int     channelSize  = Integer.MAX_VALUE;
-	@Getter         private int     backlog      = 50               ;
+	@Getter @Setter private boolean reuseAddress     = true             ;
+	@Getter @Setter private int     channelSize      = Integer.MAX_VALUE;
+	@Getter         private int     ipChannelSize    = Integer.MAX_VALUE;
+	@Getter         private int     backlog          = 50               ;
+	@Getter         private int     acceptorPoolSize = 1                ;
+	@Getter         private int     acceptBatchSize  = 32               ;
+	@Getter         private int     acceptRate       = Integer.MAX_VALUE;
+	@Getter         private int     acceptBurst      = 0                ;
 	
 	
 	// ~ ---------------------------------------------------------------------------------------------------------------
@@ -28,5 +33,41 @@ public class NioAcceptorConfig extends NioConfig {
 	public void setBacklog(int backlog) {
 		this.backlog = (backlog <= 0 ? 50 : backlog);
 	}
+	
+	/**
+	 * @param ipChannelSize max alive channels from one remote ip address, non positive means unlimited.
+	 */
+	public void setIpChannelSize(int ipChannelSize) {
+		this.ipChannelSize = (ipChannelSize <= 0 ? Integer.MAX_VALUE : ipChannelSize);
+	}
+	
+	/**
+	 * @param acceptorPoolSize count of accept threads, each thread owns a selector and a subset of the bound addresses.
+	 */
+	public void setAcceptorPoolSize(int acceptorPoolSize) {
+		this.acceptorPoolSize = (acceptorPoolSize <= 0 ? 1 : acceptorPoolSize);
+	}
+	
+	/**
+	 * @param acceptBatchSize max connections accepted from one server socket per select.
+	 */
+	public void setAcceptBatchSize(int acceptBatchSize) {
+		this.acceptBatchSize = (acceptBatchSize <= 0 ? 32 : acceptBatchSize);
+	}
+	
+	/**
+	 * @param acceptRate max connections accepted per second, non positive means unlimited. 
+	 *                   Connections over the rate wait in the listen backlog rather than being closed.
+	 */
+	public void setAcceptRate(int acceptRate) {
+		this.acceptRate = (acceptRate <= 0 ? Integer.MAX_VALUE : acceptRate);
+	}
+	
+	/**
+	 * @param acceptBurst max connections accepted at once after an idle period, non positive means equal to accept rate.
+	 */
+	public void setAcceptBurst(int acceptBurst) {
+		this.acceptBurst = Math.max(0, acceptBurst);
+	}
 
 }
@@ -1,11 +1,18 @@
 package io.craft.atom.nio.api;
 
+import io.craft.atom.io.ChannelEventType;
 import io.craft.atom.io.IoHandler;
 import io.craft.atom.nio.NioAdaptiveBufferSizePredictorFactory;
+import io.craft.atom.nio.NioChannelIdProcessorPicker;
 import io.craft.atom.nio.NioConfig;
 import io.craft.atom.nio.NioOrderedDirectChannelEventDispatcher;
+import io.craft.atom.nio.NioProcessorGroup;
 import io.craft.atom.nio.spi.NioBufferSizePredictorFactory;
 import io.craft.atom.nio.spi.NioChannelEventDispatcher;
+import io.craft.atom.nio.spi.NioProcessorPicker;
+
+import java.util.EnumSet;
+import java.util.Set;
 
 
 
@@ -16,18 +23,33 @@ import io.craft.atom.nio.spi.NioChannelEventDispatcher;
 public abstract class NioBuilder<T> {
 	
 	
-	protected final IoHandler                     handler                                                         ;
-	protected       NioChannelEventDispatcher     dispatcher        = new NioOrderedDirectChannelEventDispatcher();
-	protected       NioBufferSizePredictorFactory predictorFactory  = new NioAdaptiveBufferSizePredictorFactory() ;
-	protected       int                           readBufferSize    = 2048                                        ;
-	protected       int                           minReadBufferSize = 64                                          ;
-	protected       int                           maxReadBufferSize = 65536                                       ;
-	protected       int                           ioTimeoutInMillis = 120 * 1000                                  ;
-	protected       int                           processorPoolSize = Runtime.getRuntime().availableProcessors()  ;
-	protected       int                           executorSize      = processorPoolSize << 3                      ;
-	protected       int                           channelEventSize  = Integer.MAX_VALUE                           ;
-	protected       int                           totalEventSize    = Integer.MAX_VALUE                           ;
-	protected       boolean                       readWriteFair     = true                                        ;
+	protected final IoHandler                     handler                                                                 ;
+	protected       NioChannelEventDispatcher     dispatcher                = new NioOrderedDirectChannelEventDispatcher();
+	protected       NioBufferSizePredictorFactory predictorFactory          = new NioAdaptiveBufferSizePredictorFactory() ;
+	protected       int                           readBufferSize            = 2048                                        ;
+	protected       int                           minReadBufferSize         = 64                                          ;
+	protected       int                           maxReadBufferSize         = 65536                                       ;
+	protected       int                           ioTimeoutInMillis         = 120 * 1000                                  ;
+	protected       int                           processorPoolSize         = Runtime.getRuntime().availableProcessors()  ;
+	protected       int                           executorSize              = processorPoolSize << 3                      ;
+	protected       int                           channelEventSize          = Integer.MAX_VALUE                           ;
+	protected       int                           totalEventSize            = Integer.MAX_VALUE                           ;
+	protected       boolean                       readWriteFair             = true                                        ;
+	protected       int                           gatheringWriteSize        = 0                                           ;
+	protected       int                           writeBufferHighWaterMark  = 0                                           ;
+	protected       int                           writeBufferLowWaterMark   = 0                                           ;
+	protected       boolean                       optimizedSelector         = false                                       ;
+	protected       NioProcessorPicker            processorPicker           = new NioChannelIdProcessorPicker()           ;
+	protected       int                           rebalanceIntervalInMillis = 0                                           ;
+	protected       int                           readQuota                 = 0                                           ;
+	protected       int                           readSpinCount             = 16                                          ;
+	protected       int                           processTimeBudgetInMillis = 0                                           ;
+	protected       int                           readIdleTimeoutInMillis   = 0                                           ;
+	protected       int                           writeIdleTimeoutInMillis  = 0                                           ;
+	protected       int                           clockResolutionInMillis   = 0                                           ;
+	protected       Set<ChannelEventType>         ignoredEventTypes         = EnumSet.noneOf(ChannelEventType.class)      ;
+	protected       boolean                       compactChannel            = false                                       ;
+	protected       NioProcessorGroup             processorGroup                                                          ;
 	
 	
 	public NioBuilder(IoHandler handler) {
@@ -35,29 +57,58 @@ public abstract class NioBuilder<T> {
 	}
 	
 	
-	public NioBuilder<T> minReadBufferSize(int size)                              { this.minReadBufferSize = size      ; return this; }
-	public NioBuilder<T> maxReadBufferSize(int size)                              { this.maxReadBufferSize = size      ; return this; }
-	public NioBuilder<T> readBufferSize   (int size)                              { this.readBufferSize    = size      ; return this; }
-	public NioBuilder<T> processorPoolSize(int size)                              { this.processorPoolSize = size      ; return this; }
-	public NioBuilder<T> executorSize     (int size)                              { this.executorSize      = size      ; return this; }
-	public NioBuilder<T> channelEventSize (int size)                              { this.channelEventSize  = size      ; return this; }
-	public NioBuilder<T> totalEventSize   (int size)                              { this.totalEventSize    = size      ; return this; }
-	public NioBuilder<T> ioTimeoutInMillis(int timeout)                           { this.ioTimeoutInMillis = timeout   ; return this; }
-	public NioBuilder<T> readWriteFair    (boolean fair)                          { this.readWriteFair     = fair      ; return this; }
-	public NioBuilder<T> dispatcher       (NioChannelEventDispatcher dispatcher)  { this.dispatcher        = dispatcher; return this; }
-	public NioBuilder<T> predictorFactory (NioBufferSizePredictorFactory factory) { this.predictorFactory  = factory   ; return this; }
+	public NioBuilder<T> minReadBufferSize        (int size)                              { this.minReadBufferSize         = size      ; return this; }
+	public NioBuilder<T> maxReadBufferSize        (int size)                              { this.maxReadBufferSize         = size      ; return this; }
+	public NioBuilder<T> readBufferSize           (int size)                              { this.readBufferSize            = size      ; return this; }
+	public NioBuilder<T> processorPoolSize        (int size)                              { this.processorPoolSize         = size      ; return this; }
+	public NioBuilder<T> executorSize             (int size)                              { this.executorSize              = size      ; return this; }
+	public NioBuilder<T> channelEventSize         (int size)                              { this.channelEventSize          = size      ; return this; }
+	public NioBuilder<T> totalEventSize           (int size)                              { this.totalEventSize            = size      ; return this; }
+	public NioBuilder<T> ioTimeoutInMillis        (int timeout)                           { this.ioTimeoutInMillis         = timeout   ; return this; }
+	public NioBuilder<T> readWriteFair            (boolean fair)                          { this.readWriteFair             = fair      ; return this; }
+	public NioBuilder<T> gatheringWriteSize       (int size)                              { this.gatheringWriteSize        = size      ; return this; }
+	public NioBuilder<T> writeBufferHighWaterMark (int size)                              { this.writeBufferHighWaterMark  = size      ; return this; }
+	public NioBuilder<T> writeBufferLowWaterMark  (int size)                              { this.writeBufferLowWaterMark   = size      ; return this; }
+	public NioBuilder<T> optimizedSelector        (boolean optimized)                     { this.optimizedSelector         = optimized ; return this; }
+	public NioBuilder<T> processorPicker          (NioProcessorPicker picker)             { this.processorPicker           = picker    ; return this; }
+	public NioBuilder<T> rebalanceIntervalInMillis(int interval)                          { this.rebalanceIntervalInMillis = interval  ; return this; }
+	public NioBuilder<T> readQuota                (int quota)                             { this.readQuota                 = quota     ; return this; }
+	public NioBuilder<T> readSpinCount            (int count)                             { this.readSpinCount             = count     ; return this; }
+	public NioBuilder<T> processTimeBudgetInMillis(int budget)                            { this.processTimeBudgetInMillis = budget    ; return this; }
+	public NioBuilder<T> readIdleTimeoutInMillis  (int timeout)                           { this.readIdleTimeoutInMillis   = timeout   ; return this; }
+	public NioBuilder<T> writeIdleTimeoutInMillis (int timeout)                           { this.writeIdleTimeoutInMillis  = timeout   ; return this; }
+	public NioBuilder<T> clockResolutionInMillis  (int resolution)                        { this.clockResolutionInMillis   = resolution; return this; }
+	public NioBuilder<T> ignoredEventTypes        (Set<ChannelEventType> types)           { this.ignoredEventTypes         = types     ; return this; }
+	public NioBuilder<T> compactChannel           (boolean compact)                       { this.compactChannel            = compact   ; return this; }
+	public NioBuilder<T> dispatcher               (NioChannelEventDispatcher dispatcher)  { this.dispatcher                = dispatcher; return this; }
+	public NioBuilder<T> predictorFactory         (NioBufferSizePredictorFactory factory) { this.predictorFactory          = factory   ; return this; }
+	public NioBuilder<T> processorGroup           (NioProcessorGroup group)               { this.processorGroup            = group     ; return this; }
 	
 	
 	protected void set(NioConfig config) {
-		config.setReadWritefair(readWriteFair)         ;
-		config.setTotalEventSize(totalEventSize)       ;
-		config.setChannelEventSize(channelEventSize)   ;
-		config.setExecutorSize(executorSize)           ;
-		config.setProcessorPoolSize(processorPoolSize) ;
-		config.setIoTimeoutInMillis(ioTimeoutInMillis) ;
-		config.setDefaultReadBufferSize(readBufferSize);
-		config.setMinReadBufferSize(minReadBufferSize) ;
-		config.setMaxReadBufferSize(maxReadBufferSize) ;
+		config.setReadWritefair(readWriteFair)                        ;
+		config.setGatheringWriteSize(gatheringWriteSize)              ;
+		config.setWriteBufferHighWaterMark(writeBufferHighWaterMark)  ;
+		config.setWriteBufferLowWaterMark(writeBufferLowWaterMark)    ;
+		config.setOptimizedSelector(optimizedSelector)                ;
+		config.setProcessorPicker(processorPicker)                    ;
+		config.setRebalanceIntervalInMillis(rebalanceIntervalInMillis);
+		config.setReadQuota(readQuota)                                ;
+		config.setReadSpinCount(readSpinCount)                        ;
+		config.setProcessTimeBudgetInMillis(processTimeBudgetInMillis);
+		config.setReadIdleTimeoutInMillis(readIdleTimeoutInMillis)    ;
+		config.setWriteIdleTimeoutInMillis(writeIdleTimeoutInMillis)  ;
+		config.setClockResolutionInMillis(clockResolutionInMillis)    ;
+		config.setIgnoredEventTypes(ignoredEventTypes)                ;
+		config.setCompactChannel(compactChannel)                      ;
+		config.setTotalEventSize(totalEventSize)                      ;
+		config.setChannelEventSize(channelEventSize)                  ;
+		config.setExecutorSize(executorSize)                          ;
+		config.setProcessorPoolSize(processorPoolSize)                ;
+		config.setIoTimeoutInMillis(ioTimeoutInMillis)                ;
+		config.setDefaultReadBufferSize(readBufferSize)               ;
+		config.setMinReadBufferSize(minReadBufferSize)                ;
+		config.setMaxReadBufferSize(maxReadBufferSize)                ;
 	}
 	
 	abstract public T build();
@@ -3,6 +3,7 @@ package io.craft.atom.nio.api;
 import io.craft.atom.io.IoAcceptor;
 import io.craft.atom.io.IoConnector;
 import io.craft.atom.io.IoHandler;
+import io.craft.atom.nio.NioProcessorGroup;
 import io.craft.atom.nio.NioTcpAcceptor;
 import io.craft.atom.nio.NioTcpConnector;
 import io.craft.atom.nio.spi.NioBufferSizePredictorFactory;
@@ -11,7 +12,8 @@ import io.craft.atom.nio.spi.NioChannelEventDispatcher;
 
 /**
  * Nio Factory,
- * which provides static factory method and builder to creating {@link IoAcceptor} and {@link IoConnector} instance.
+ * which provides static factory method and builder to creating {@link IoAcceptor} and {@link IoConnector} instance,
+ * and {@link NioProcessorGroup} instance shared by them.
  * 
  * @author mindwind
  * @version 1.0, Dec 17, 2013
@@ -57,4 +59,12 @@ public class NioFactory {
 	public static NioTcpConnectorBuilder newTcpConnectorBuilder(IoHandler handler) {
 		return new NioTcpConnectorBuilder(handler);
 	}
+	
+	public static NioProcessorGroup newProcessorGroup() {
+		return newProcessorGroupBuilder().build();
+	}
+	
+	public static NioProcessorGroupBuilder newProcessorGroupBuilder() {
+		return new NioProcessorGroupBuilder();
+	}
 }
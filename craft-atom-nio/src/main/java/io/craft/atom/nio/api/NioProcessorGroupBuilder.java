@@ -0,0 +1,27 @@
+package io.craft.atom.nio.api;
+
+import io.craft.atom.nio.NioProcessorGroup;
+
+
+/**
+ * Builder for {@link NioProcessorGroup}, only processor settings take effect, 
+ * handler, dispatcher and channel settings are given by each acceptor or connector registered onto the group.
+ * 
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class NioProcessorGroupBuilder extends NioBuilder<NioProcessorGroup> {
+	
+	
+	public NioProcessorGroupBuilder() {
+		super(null);
+	}
+	
+	
+	public NioProcessorGroup build() {
+		NioConnectorConfig config = new NioConnectorConfig();
+		set(config);
+		return new NioProcessorGroup(config);
+	}
+	
+}
@@ -14,9 +14,14 @@ import io.craft.atom.nio.NioTcpAcceptor;
 public class NioTcpAcceptorBuilder extends NioBuilder<IoAcceptor> {
 	
 	
-	private int     backlog      = 50               ;
-	private int     channelSize  = Integer.MAX_VALUE;
-	private boolean reuseAddress = true             ;
+	private int     backlog          = 50               ;
+	private int     channelSize      = Integer.MAX_VALUE;
+	private int     ipChannelSize    = Integer.MAX_VALUE;
+	private int     acceptorPoolSize = 1                ;
+	private int     acceptBatchSize  = 32               ;
+	private int     acceptRate       = Integer.MAX_VALUE;
+	private int     acceptBurst      = 0                ;
+	private boolean reuseAddress     = true             ;
 
 	
 	public NioTcpAcceptorBuilder(IoHandler handler) {
@@ -24,18 +29,28 @@ public class NioTcpAcceptorBuilder extends NioBuilder<IoAcceptor> {
 	}
 	
 	
-	public NioTcpAcceptorBuilder backlog     (int backlog)          { this.backlog      = backlog     ; return this; }
-	public NioTcpAcceptorBuilder channelSize (int channelSize)      { this.channelSize  = channelSize ; return this; }
-    public NioTcpAcceptorBuilder reuseAddress(boolean reuseAddress) { this.reuseAddress = reuseAddress; return this; }
+	public NioTcpAcceptorBuilder backlog         (int backlog)           { this.backlog          = backlog         ; return this; }
+	public NioTcpAcceptorBuilder channelSize     (int channelSize)       { this.channelSize      = channelSize     ; return this; }
+	public NioTcpAcceptorBuilder ipChannelSize   (int ipChannelSize)     { this.ipChannelSize    = ipChannelSize   ; return this; }
+	public NioTcpAcceptorBuilder acceptorPoolSize(int acceptorPoolSize)  { this.acceptorPoolSize = acceptorPoolSize; return this; }
+	public NioTcpAcceptorBuilder acceptBatchSize (int acceptBatchSize)   { this.acceptBatchSize  = acceptBatchSize ; return this; }
+	public NioTcpAcceptorBuilder acceptRate      (int acceptRate)        { this.acceptRate       = acceptRate      ; return this; }
+	public NioTcpAcceptorBuilder acceptBurst     (int acceptBurst)       { this.acceptBurst      = acceptBurst     ; return this; }
+	public NioTcpAcceptorBuilder reuseAddress    (boolean reuseAddress)  { this.reuseAddress     = reuseAddress    ; return this; }
 	
     
 	public IoAcceptor build() {
 		NioAcceptorConfig config = new NioAcceptorConfig();
 		config.setBacklog(backlog);
 		config.setChannelSize(channelSize);
+		config.setIpChannelSize(ipChannelSize);
+		config.setAcceptorPoolSize(acceptorPoolSize);
+		config.setAcceptBatchSize(acceptBatchSize);
+		config.setAcceptRate(acceptRate);
+		config.setAcceptBurst(acceptBurst);
 		config.setReuseAddress(reuseAddress);
 		set(config);
-		return new NioTcpAcceptor(handler, config, dispatcher, predictorFactory);
+		return new NioTcpAcceptor(handler, config, dispatcher, predictorFactory, processorGroup);
 	}
 	
 }
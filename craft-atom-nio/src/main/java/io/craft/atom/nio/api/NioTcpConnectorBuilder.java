@@ -29,6 +29,6 @@ public class NioTcpConnectorBuilder extends NioBuilder<IoConnector> {
 		NioConnectorConfig config = new NioConnectorConfig();
 		config.setConnectTimeoutInMillis(connectTimeoutInMillis);
 		set(config);
-		return new NioTcpConnector(handler, config, dispatcher, predictorFactory);
+		return new NioTcpConnector(handler, config, dispatcher, predictorFactory, processorGroup);
 	}
 }
@@ -1,6 +1,9 @@
 package io.craft.atom.nio.spi;
 
+import io.craft.atom.io.ChannelEventType;
+import io.craft.atom.io.IoHandler;
 import io.craft.atom.nio.NioByteChannel;
+import io.craft.atom.nio.NioByteChannelEvent;
 
 import java.util.concurrent.Semaphore;
 
@@ -45,10 +48,10 @@ abstract public class AbstractNioChannelEventDispatcher implements NioChannelEve
 	
 	
 	protected void beforeDispatch(NioByteChannel channel) {
+		// too many pending events of the channel, its reading is throttled until the events drain.
 		boolean b = channel.tryAcquire();
 		if (!b) {
-			channel.pause();
-			LOG.warn("[CRAFT-ATOM-NIO]] Pause |channel={}, availablePermits={}|", channel, channel.availablePermits());
+			LOG.debug("[CRAFT-ATOM-NIO] Throttle read |channel={}, availablePermits={}|", channel, channel.availablePermits());
 		}
 		
 		try {
@@ -60,14 +63,22 @@ abstract public class AbstractNioChannelEventDispatcher implements NioChannelEve
 	
 	protected void afterDispatch(NioByteChannel channel) {
 		channel.release();
-		if (channel.isPaused()) {
-			channel.resume();
-			LOG.warn("[CRAFT-ATOM-NIO]] Resume |channel={} availablePermits={}|", channel, channel.availablePermits());
-		}
-		
 		semaphore.release();
 	}
 	
+	/**
+	 * Dispatch an event by its fields, processors publish all the events of channels through it.
+	 * The default builds a {@link NioByteChannelEvent} and dispatches it, a dispatcher may override it to avoid allocating the event object.
+	 * 
+	 * @param type
+	 * @param channel
+	 * @param handler
+	 * @param parameter
+	 */
+	public void publish(ChannelEventType type, NioByteChannel channel, IoHandler handler, Object parameter) {
+		dispatch(new NioByteChannelEvent(type, channel, handler, parameter));
+	}
+	
 	@Override
 	public void shutdown() {}
 
@@ -2,8 +2,11 @@ package io.craft.atom.nio.spi;
 
 import io.craft.atom.io.ChannelEvent;
 import io.craft.atom.io.IoHandler;
+import io.craft.atom.nio.NioAdaptiveChannelEventDispatcher;
+import io.craft.atom.nio.NioAffinityChannelEventDispatcher;
 import io.craft.atom.nio.NioOrderedDirectChannelEventDispatcher;
 import io.craft.atom.nio.NioOrderedThreadPoolChannelEventDispatcher;
+import io.craft.atom.nio.NioRingBufferChannelEventDispatcher;
 
 
 /**
@@ -13,6 +16,9 @@ import io.craft.atom.nio.NioOrderedThreadPoolChannelEventDispatcher;
  * @version 1.0, Feb 22, 2013
  * @see NioOrderedThreadPoolChannelEventDispatcher
  * @see NioOrderedDirectChannelEventDispatcher
+ * @see NioAffinityChannelEventDispatcher
+ * @see NioRingBufferChannelEventDispatcher
+ * @see NioAdaptiveChannelEventDispatcher
  */
 public interface NioChannelEventDispatcher {
 	
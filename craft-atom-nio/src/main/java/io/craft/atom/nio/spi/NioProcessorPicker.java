@@ -0,0 +1,28 @@
+package io.craft.atom.nio.spi;
+
+import io.craft.atom.nio.NioByteChannel;
+import io.craft.atom.nio.NioProcessor;
+
+/**
+ * Picks a processor from the processor pool for a new channel, the channel is processed by the picked processor 
+ * until it is closed or migrated to another processor to rebalance load.
+ * <p>
+ * Implementation must be thread safe, it may be invoked by multiple accept or connect threads at the same time.
+ * The load of a processor can be got cheaply from {@link NioProcessor#channelCount()}, {@link NioProcessor#ioRate()} 
+ * and {@link NioProcessor#ioEventRate()}, or as a whole from {@link NioProcessor#x()}.
+ * 
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public interface NioProcessorPicker {
+	
+	/**
+	 * Pick a processor for the channel.
+	 * 
+	 * @param processors all processors of the pool, never empty.
+	 * @param channel    the new channel.
+	 * @return the picked processor
+	 */
+	NioProcessor pick(NioProcessor[] processors, NioByteChannel channel);
+
+}
@@ -0,0 +1,28 @@
+package io.craft.atom.nio.spi;
+
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoHandler;
+import io.craft.atom.nio.NioReadBuffer;
+
+/**
+ * An {@link IoHandler} opts in zero-copy read mode.
+ * <p>
+ * If the handler of nio component implements this interface, read bytes are delivered by
+ * {@link #channelRead(Channel, NioReadBuffer)} with a pooled buffer instead of a new byte array,
+ * and {@link IoHandler#channelRead(Channel, byte[])} will never be invoked.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public interface NioReadBufferHandler extends IoHandler {
+
+	/**
+	 * Invoked when channel has read some bytes.
+	 * The handler owns the buffer and must release it by {@link NioReadBuffer#release()} after use.
+	 *
+	 * @param channel
+	 * @param buffer
+	 */
+	void channelRead(Channel<byte[]> channel, NioReadBuffer buffer);
+
+}
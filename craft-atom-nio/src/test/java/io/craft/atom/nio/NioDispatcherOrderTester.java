@@ -0,0 +1,90 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.nio.spi.NioChannelEventDispatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+
+/**
+ * Checks a {@link NioChannelEventDispatcher} keeps event order in the same channel,
+ * several channels write a byte sequence concurrently and the acceptor handler checks each channel receives it in order.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class NioDispatcherOrderTester {
+
+
+	private static final int CHANNELS = 8   ;
+	private static final int MESSAGES = 2000;
+
+
+	/**
+	 * Test the dispatcher and shut it down.
+	 *
+	 * @param dispatcher
+	 * @param port
+	 * @throws Exception
+	 */
+	public static void test(NioChannelEventDispatcher dispatcher, int port) throws Exception {
+		OrderHandler handler = new OrderHandler();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(handler).dispatcher(dispatcher).build();
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+
+		List<Channel<byte[]>> channels = new ArrayList<Channel<byte[]>>();
+		for (int i = 0; i < CHANNELS; i++) {
+			channels.add(connector.connect("127.0.0.1", port).get());
+		}
+		for (int i = 0; i < MESSAGES; i++) {
+			for (Channel<byte[]> channel : channels) {
+				channel.write(new byte[] { (byte) (i % 128) });
+			}
+		}
+
+		// wait all bytes received
+		for (int i = 0; i < 100 && handler.received.get() < CHANNELS * MESSAGES; i++) {
+			Thread.sleep(50);
+		}
+		Assert.assertEquals(CHANNELS * MESSAGES, handler.received.get());
+		Assert.assertEquals(0, handler.disorders.get());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		dispatcher.shutdown();
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class OrderHandler extends AbstractIoHandler {
+
+		private final AtomicInteger received  = new AtomicInteger();
+		private final AtomicInteger disorders = new AtomicInteger();
+
+		@Override
+		public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+			Integer expected = (Integer) channel.getAttribute("expected");
+			int next = (expected == null ? 0 : expected);
+			for (byte b : bytes) {
+				if (b != (byte) (next % 128)) {
+					disorders.incrementAndGet();
+				}
+				next++;
+			}
+			channel.setAttribute("expected", next);
+			received.addAndGet(bytes.length);
+		}
+
+	}
+
+}
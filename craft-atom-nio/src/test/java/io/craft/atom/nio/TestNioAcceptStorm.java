@@ -0,0 +1,104 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for accept storm protection of {@link NioTcpAcceptor}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioAcceptStorm {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(49111);
+
+
+	@Test
+	public void testIpChannelSize() throws Exception {
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(new AbstractIoHandler() {}).ipChannelSize(2).build();
+		acceptor.bind(PORT);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+
+		Channel<byte[]> first  = connector.connect("127.0.0.1", PORT).get();
+		Channel<byte[]> second = connector.connect("127.0.0.1", PORT).get();
+		Channel<byte[]> third  = connector.connect("127.0.0.1", PORT).get();
+		Thread.sleep(200);
+		Assert.assertTrue(first.isOpen());
+		Assert.assertTrue(second.isOpen());
+		Assert.assertFalse(third.isOpen());
+
+		// the slot is released when a channel is closed
+		first.close();
+		Thread.sleep(200);
+		Channel<byte[]> fourth = connector.connect("127.0.0.1", PORT).get();
+		Thread.sleep(200);
+		Assert.assertTrue(fourth.isOpen());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio acceptor ip channel size limit. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testChannelSizeRelease() throws Exception {
+		int port = AvailablePortFinder.getNextAvailable(PORT + 1);
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(new AbstractIoHandler() {}).channelSize(1).acceptBatchSize(1).build();
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+
+		Channel<byte[]> first = connector.connect("127.0.0.1", port).get();
+		first.close();
+		Thread.sleep(200);
+		Channel<byte[]> second = connector.connect("127.0.0.1", port).get();
+		Thread.sleep(200);
+		Assert.assertTrue(second.isOpen());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio acceptor channel size released on close. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testAcceptRate() throws Exception {
+		int port = AvailablePortFinder.getNextAvailable(PORT + 2);
+		final AtomicInteger opened = new AtomicInteger();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(new AbstractIoHandler() {
+			@Override
+			public void channelOpened(Channel<byte[]> channel) {
+				opened.incrementAndGet();
+			}
+		}).acceptRate(10).acceptBurst(2).build();
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+
+		int count = 10;
+		for (int i = 0; i < count; i++) {
+			connector.connect("127.0.0.1", port);
+		}
+
+		// over the rate connections wait in backlog rather than being closed
+		Thread.sleep(150);
+		Assert.assertTrue(opened.get() < count);
+		for (int i = 0; i < 60 && opened.get() < count; i++) {
+			Thread.sleep(50);
+		}
+		Assert.assertEquals(count, opened.get());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio acceptor accept rate limit. ", CaseCounter.incr(1)));
+	}
+
+}
@@ -0,0 +1,87 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NioAcceptor} with multiple accept threads.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioAcceptorPool {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(30111);
+
+
+	@Test
+	public void testAcceptorPool() throws Exception {
+		final AtomicInteger opened = new AtomicInteger();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(new AbstractIoHandler() {
+			@Override
+			public void channelOpened(Channel<byte[]> channel) {
+				opened.incrementAndGet();
+			}
+		}).acceptorPoolSize(2).build();
+		int port1 = PORT;
+		int port2 = AvailablePortFinder.getNextAvailable(port1 + 1);
+		int port3 = AvailablePortFinder.getNextAvailable(port2 + 1);
+		acceptor.bind(new InetSocketAddress(port1), new InetSocketAddress(port2));
+		acceptor.bind(port3);
+		Assert.assertEquals(3, acceptor.getBoundAddresses().size());
+
+		// duplicate bind fails on whichever thread it goes to, only the addresses of the failed call are rolled back
+		int port4 = AvailablePortFinder.getNextAvailable(port3 + 1);
+		try {
+			acceptor.bind(new InetSocketAddress(port3), new InetSocketAddress(port4));
+			Assert.fail();
+		} catch (IOException e) {
+			Assert.assertTrue(true);
+		}
+		Assert.assertEquals(3, acceptor.getBoundAddresses().size());
+		Assert.assertFalse(acceptor.getBoundAddresses().contains(new InetSocketAddress(port4)));
+
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		connector.connect("127.0.0.1", port1).get();
+		connector.connect("127.0.0.1", port2).get();
+		connector.connect("127.0.0.1", port3).get();
+		for (int i = 0; i < 40 && opened.get() < 3; i++) {
+			Thread.sleep(50);
+		}
+		Assert.assertEquals(3, opened.get());
+
+		// unbind on the owner thread, the others keep accepting
+		acceptor.unbind(port2);
+		Assert.assertEquals(2, acceptor.getBoundAddresses().size());
+		try {
+			connector.connect("127.0.0.1", port2).get(1, TimeUnit.SECONDS);
+			Assert.fail();
+		} catch (Exception e) {
+			Assert.assertTrue(true);
+		}
+		connector.connect("127.0.0.1", port3).get();
+		for (int i = 0; i < 40 && opened.get() < 4; i++) {
+			Thread.sleep(50);
+		}
+		Assert.assertEquals(4, opened.get());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio acceptor with multiple accept threads. ", CaseCounter.incr(1)));
+	}
+
+}
@@ -0,0 +1,84 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NioAdaptiveChannelEventDispatcher}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioAdaptiveDispatcher {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(37111);
+
+
+	@Test
+	public void testOffloadAndRecover() throws Exception {
+		ThreadHandler handler = new ThreadHandler();
+		NioAdaptiveChannelEventDispatcher dispatcher = new NioAdaptiveChannelEventDispatcher(2, 5, 4, Integer.MAX_VALUE);
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(handler).dispatcher(dispatcher).build();
+		acceptor.bind(PORT);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		Channel<byte[]> channel = connector.connect("127.0.0.1", PORT).get();
+
+		// the first read is slow, later ones are fast
+		for (int i = 0; i < 10; i++) {
+			channel.write(new byte[] { (byte) i });
+			Thread.sleep(50);
+		}
+
+		Assert.assertEquals(10, handler.bytes.size());
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals(i, handler.bytes.get(i).intValue());
+		}
+		Assert.assertTrue(handler.threads.get(0).startsWith("craft-atom-nio-processor"));
+		Assert.assertTrue(handler.threads.get(1).startsWith("craft-atom-nio-adaptive-dispatcher"));
+		Assert.assertTrue(handler.threads.get(9).startsWith("craft-atom-nio-processor"));
+
+		acceptor.shutdown();
+		connector.shutdown();
+		dispatcher.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio adaptive dispatcher offloads slow channel and recovers. ", CaseCounter.incr(1)));
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class ThreadHandler extends AbstractIoHandler {
+
+		private final List<Byte>   bytes   = new CopyOnWriteArrayList<Byte>()  ;
+		private final List<String> threads = new CopyOnWriteArrayList<String>();
+
+		@Override
+		public void channelRead(Channel<byte[]> channel, byte[] data) {
+			for (byte b : data) {
+				bytes.add(b);
+				threads.add(Thread.currentThread().getName());
+			}
+			if (bytes.size() == 1) {
+				try {
+					Thread.sleep(20);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,26 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link NioAffinityChannelEventDispatcher}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioAffinityDispatcher {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(39111);
+
+
+	@Test
+	public void testOrder() throws Exception {
+		NioDispatcherOrderTester.test(new NioAffinityChannelEventDispatcher(3, Integer.MAX_VALUE), PORT);
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio affinity dispatcher keeps event order. ", CaseCounter.incr(1)));
+	}
+
+}
@@ -0,0 +1,119 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.AttributeKey;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for typed channel attributes with {@link AttributeKey}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioAttributeKey {
+
+
+	private static final int                   PORT  = AvailablePortFinder.getNextAvailable(31111);
+	private static final AttributeKey<String>  NAME  = AttributeKey.valueOf("test.name" );
+	private static final AttributeKey<Integer> COUNT = AttributeKey.valueOf("test.count");
+
+
+	@Test
+	public void testAttributeKey() throws Exception {
+		Assert.assertSame(NAME, AttributeKey.valueOf("test.name"));
+		Assert.assertNotSame(NAME, COUNT);
+
+		IoAcceptor acceptor = NioFactory.newTcpAcceptor(new AbstractIoHandler() {});
+		acceptor.bind(PORT);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		NioByteChannel channel = (NioByteChannel) connector.connect("127.0.0.1", PORT).get();
+
+		Assert.assertNull(channel.getAttribute(NAME));
+		Assert.assertFalse(channel.containsAttribute(COUNT));
+		Assert.assertNull(channel.setAttribute(NAME, "craft"));
+		Assert.assertEquals("craft", channel.setAttribute(NAME, "atom"));
+		Assert.assertEquals("atom", channel.getAttribute(NAME));
+
+		// compare and set, null expected value means absent
+		Assert.assertTrue(channel.compareAndSetAttribute(COUNT, null, 1));
+		Assert.assertFalse(channel.compareAndSetAttribute(COUNT, null, 2));
+		Assert.assertTrue(channel.compareAndSetAttribute(COUNT, channel.getAttribute(COUNT), 3));
+		Assert.assertEquals(Integer.valueOf(3), channel.getAttribute(COUNT));
+
+		// key created after the value array grows it
+		AttributeKey<Long> late = AttributeKey.valueOf("test.late");
+		Assert.assertNull(channel.getAttribute(late));
+		channel.setAttribute(late, 7L);
+		Assert.assertEquals(Long.valueOf(7L), channel.getAttribute(late));
+		Assert.assertEquals("atom", channel.getAttribute(NAME));
+
+		// typed keys do not share values with object keys
+		Assert.assertNull(channel.getAttribute((Object) "test.name"));
+		Assert.assertEquals("atom", channel.removeAttribute(NAME));
+		Assert.assertFalse(channel.containsAttribute(NAME));
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio typed attribute key. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testConcurrentUpdate() throws Exception {
+		IoAcceptor acceptor = NioFactory.newTcpAcceptor(new AbstractIoHandler() {});
+		int port = AvailablePortFinder.getNextAvailable(PORT + 1);
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		final NioByteChannel channel = (NioByteChannel) connector.connect("127.0.0.1", port).get();
+		final int threads = 4;
+		final int count = 10000;
+		final CountDownLatch latch = new CountDownLatch(threads + 1);
+		
+		// increments by compare and set are not lost while another thread keeps growing the value array with new keys
+		channel.setAttribute(COUNT, 0);
+		for (int t = 0; t < threads; t++) {
+			new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (int i = 0; i < count; i++) {
+						Integer c;
+						do {
+							c = channel.getAttribute(COUNT);
+						} while (!channel.compareAndSetAttribute(COUNT, c, c + 1));
+					}
+					latch.countDown();
+				}
+			}).start();
+		}
+		new Thread(new Runnable() {
+			@Override
+			public void run() {
+				for (int i = 0; i < 100; i++) {
+					AttributeKey<Integer> key = AttributeKey.valueOf("test.grow." + i);
+					channel.setAttribute(key, i);
+				}
+				latch.countDown();
+			}
+		}).start();
+		
+		Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+		Assert.assertEquals(Integer.valueOf(threads * count), channel.getAttribute(COUNT));
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(Integer.valueOf(i), channel.getAttribute(AttributeKey.<Integer>valueOf("test.grow." + i)));
+		}
+		
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio typed attribute concurrent update. ", CaseCounter.incr(1)));
+	}
+
+}
@@ -0,0 +1,97 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NioByteChannel#write(ByteBuffer...)}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioBufferWrite {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(34111);
+
+
+	@Test
+	public void testBufferWrite() throws Exception {
+		ReceiveHandler handler = new ReceiveHandler();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(handler).build();
+		acceptor.bind(PORT);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		NioByteChannel channel = (NioByteChannel) connector.connect("127.0.0.1", PORT).get();
+
+		// heap buffer with offset
+		ByteBuffer heap = ByteBuffer.wrap("xxheapxx".getBytes(), 2, 4);
+		Assert.assertTrue(channel.write(heap));
+		Assert.assertEquals(2, heap.position());
+
+		// direct buffer
+		ByteBuffer direct = ByteBuffer.allocateDirect(6);
+		direct.put("direct".getBytes()).flip();
+		Assert.assertTrue(channel.write(direct));
+		Assert.assertEquals(0, direct.position());
+
+		// composite of header and body
+		ByteBuffer header = ByteBuffer.wrap("header".getBytes());
+		ByteBuffer body   = ByteBuffer.wrap(new byte[64 * 1024]);
+		Assert.assertTrue(channel.write(header, body));
+		Assert.assertEquals(0, header.position());
+		Assert.assertEquals(0, body.position());
+
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		expected.write("heapdirectheader".getBytes());
+		expected.write(new byte[64 * 1024]);
+		for (int i = 0; i < 100 && handler.size() < expected.size(); i++) {
+			Thread.sleep(50);
+		}
+		Assert.assertArrayEquals(expected.toByteArray(), handler.bytes());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio byte buffer and composite write. ", CaseCounter.incr(1)));
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class ReceiveHandler extends AbstractIoHandler {
+
+		private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+
+		@Override
+		public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+			synchronized (received) {
+				received.write(bytes, 0, bytes.length);
+			}
+		}
+
+		private int size() {
+			synchronized (received) {
+				return received.size();
+			}
+		}
+
+		private byte[] bytes() {
+			synchronized (received) {
+				return received.toByteArray();
+			}
+		}
+
+	}
+
+}
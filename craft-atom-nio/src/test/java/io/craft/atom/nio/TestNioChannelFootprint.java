@@ -0,0 +1,116 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.nio.api.NioAcceptorConfig;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.nio.spi.NioBufferSizePredictor;
+import io.craft.atom.nio.spi.NioChannelEventDispatcher;
+import io.craft.atom.test.CaseCounter;
+
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for compact channel mode, measures retained bytes of the channel object graph per idle connection.
+ * <p>
+ * Channels are built over one unconnected socket channel, so the test opens no connection and the socket itself is not measured.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioChannelFootprint {
+
+
+	private static final int                       COUNT            = 2000                                                                        ;
+	private static final int                       TOLERANCE        = 32                                                                          ;
+	private static final NioAcceptorConfig         NORMAL_CONFIG    = new NioAcceptorConfig()                                                     ;
+	private static final NioAcceptorConfig         COMPACT_CONFIG   = new NioAcceptorConfig()                                                     ;
+	private static final NioBufferSizePredictor    SHARED_PREDICTOR = new NioSharedBufferSizePredictor(COMPACT_CONFIG.getDefaultReadBufferSize()) ;
+	private static final NioChannelEventDispatcher DISPATCHER       = new NioOrderedDirectChannelEventDispatcher()                                ;
+	
+	static {
+		COMPACT_CONFIG.setCompactChannel(true);
+	}
+
+
+	@Test
+	public void testCompactChannel() throws Exception {
+		SocketChannel sc = SocketChannel.open();
+		try {
+			NioTcpByteChannel normal  = newChannel(sc, false);
+			NioTcpByteChannel compact = newChannel(sc, true);
+			Assert.assertNotNull(normal.writeBufferQueue);
+			Assert.assertNotNull(normal.eventQueue);
+			Assert.assertNull(compact.writeBufferQueue);
+			Assert.assertNull(compact.eventQueue);
+			Assert.assertTrue(compact.predictor instanceof NioSharedBufferSizePredictor);
+
+			// memory measured after gc is noisy, the saving of the queues and predictor must exceed the noise spread over all channels.
+			long normalBytes  = retainedBytesPerChannel(sc, false);
+			long compactBytes = retainedBytesPerChannel(sc, true);
+			System.out.println(String.format("[CRAFT-ATOM-NIO] Retained bytes per idle channel |normal=%s, compact=%s|", normalBytes, compactBytes));
+			Assert.assertTrue(normalBytes - compactBytes > TOLERANCE);
+		} finally {
+			sc.close();
+		}
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio compact channel footprint. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testPredictorDemotion() throws Exception {
+		SocketChannel sc = SocketChannel.open();
+		try {
+			NioAcceptor acceptor = (NioAcceptor) NioFactory.newTcpAcceptorBuilder(new AbstractIoHandler() {}).compactChannel(true).build();
+			NioBufferSizePredictor shared = acceptor.newPredictor(COMPACT_CONFIG);
+			NioTcpByteChannel channel = new NioTcpByteChannel(sc, COMPACT_CONFIG, shared, DISPATCHER);
+			channel.setReactor(acceptor);
+
+			// a read filling the predicted buffer promotes the channel to its own predictor
+			channel.predict(shared.next());
+			Assert.assertFalse(channel.predictor instanceof NioSharedBufferSizePredictor);
+
+			// small reads shrink the own prediction, the channel goes back to the shared predictor once it is idle again
+			for (int i = 0; i < 100 && channel.predictor != shared; i++) {
+				channel.predict(1);
+			}
+			Assert.assertSame(shared, channel.predictor);
+			acceptor.shutdown();
+		} finally {
+			sc.close();
+		}
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio compact channel predictor demotion. ", CaseCounter.incr(1)));
+	}
+
+	private long retainedBytesPerChannel(SocketChannel sc, boolean compact) throws Exception {
+		List<NioByteChannel> channels = new ArrayList<NioByteChannel>(COUNT);
+		long before = usedMemory();
+		for (int i = 0; i < COUNT; i++) {
+			channels.add(newChannel(sc, compact));
+		}
+		long after = usedMemory();
+		Assert.assertEquals(COUNT, channels.size());
+		return (after - before) / COUNT;
+	}
+
+	private NioTcpByteChannel newChannel(SocketChannel sc, boolean compact) {
+		NioAcceptorConfig config = (compact ? COMPACT_CONFIG : NORMAL_CONFIG);
+		NioBufferSizePredictor predictor = (compact ? SHARED_PREDICTOR : new NioAdaptiveBufferSizePredictor(config.getMinReadBufferSize(), config.getDefaultReadBufferSize(), config.getMaxReadBufferSize()));
+		return new NioTcpByteChannel(sc, config, predictor, DISPATCHER);
+	}
+
+	private long usedMemory() throws InterruptedException {
+		Runtime rt = Runtime.getRuntime();
+		long used = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+			Thread.sleep(100);
+			used = Math.min(used, rt.totalMemory() - rt.freeMemory());
+		}
+		return used;
+	}
+
+}
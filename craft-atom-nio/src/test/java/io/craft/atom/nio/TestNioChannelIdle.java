@@ -0,0 +1,137 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.io.IoHandler;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NioChannelIdleTimer}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioChannelIdle {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(41111);
+
+
+	@Test
+	public void testIdle() throws Exception {
+		test(0, PORT);
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio channel read, write and all idle. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testIdleWithCoarseClock() throws Exception {
+		test(10, AvailablePortFinder.getNextAvailable(PORT + 1));
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio channel idle with coarse clock. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testIdleWithPlainHandler() throws Exception {
+		// a handler which does not opt in read and write idle events still gets all idle events and nothing is thrown
+		PlainHandler handler = new PlainHandler();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(handler).ioTimeoutInMillis(200).readIdleTimeoutInMillis(50).writeIdleTimeoutInMillis(50).build();
+		int port = AvailablePortFinder.getNextAvailable(PORT + 2);
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		connector.connect("127.0.0.1", port).get();
+		Thread.sleep(600);
+		Assert.assertTrue(handler.allIdle.get() >= 1);
+		Assert.assertEquals(0, handler.thrown.get());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio channel idle with plain handler. ", CaseCounter.incr(1)));
+	}
+
+	private void test(int clockResolution, int port) throws Exception {
+		IdleHandler handler = new IdleHandler();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(handler).ioTimeoutInMillis(400).readIdleTimeoutInMillis(100).writeIdleTimeoutInMillis(200).clockResolutionInMillis(clockResolution).build();
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		Channel<byte[]> channel = connector.connect("127.0.0.1", port).get();
+
+		// keep reading, the server channel is write idle only
+		for (int i = 0; i < 20; i++) {
+			channel.write(new byte[] { 1 });
+			Thread.sleep(30);
+		}
+		Assert.assertEquals(0, handler.readIdle.get());
+		Assert.assertEquals(0, handler.allIdle.get());
+		Assert.assertTrue(handler.writeIdle.get() >= 1);
+
+		// keep silent, the server channel becomes read idle and all idle
+		Thread.sleep(600);
+		Assert.assertTrue(handler.readIdle.get() >= 1);
+		Assert.assertTrue(handler.allIdle.get() >= 1);
+
+		acceptor.shutdown();
+		connector.shutdown();
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class IdleHandler extends AbstractIoHandler {
+
+		private final AtomicInteger allIdle   = new AtomicInteger();
+		private final AtomicInteger readIdle  = new AtomicInteger();
+		private final AtomicInteger writeIdle = new AtomicInteger();
+
+		@Override
+		public void channelIdle(Channel<byte[]> channel) {
+			allIdle.incrementAndGet();
+		}
+
+		@Override
+		public void channelReadIdle(Channel<byte[]> channel) {
+			readIdle.incrementAndGet();
+		}
+
+		@Override
+		public void channelWriteIdle(Channel<byte[]> channel) {
+			writeIdle.incrementAndGet();
+		}
+
+	}
+
+	private static class PlainHandler implements IoHandler {
+
+		private final AtomicInteger allIdle = new AtomicInteger();
+		private final AtomicInteger thrown  = new AtomicInteger();
+
+		@Override
+		public void channelOpened(Channel<byte[]> channel) {}
+		@Override
+		public void channelClosed(Channel<byte[]> channel) {}
+		@Override
+		public void channelIdle(Channel<byte[]> channel) {
+			allIdle.incrementAndGet();
+		}
+		@Override
+		public void channelRead(Channel<byte[]> channel, byte[] bytes) {}
+		@Override
+		public void channelFlush(Channel<byte[]> channel, byte[] bytes) {}
+		@Override
+		public void channelWritten(Channel<byte[]> channel, byte[] bytes) {}
+		@Override
+		public void channelThrown(Channel<byte[]> channel, Exception cause) {
+			thrown.incrementAndGet();
+		}
+
+	}
+
+}
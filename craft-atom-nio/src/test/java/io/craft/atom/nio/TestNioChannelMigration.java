@@ -0,0 +1,153 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for channel migration between processors.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioChannelMigration {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(44444);
+
+
+	@Test
+	public void testMigrate() throws Exception {
+		final List<Channel<byte[]>> accepted = new CopyOnWriteArrayList<Channel<byte[]>>();
+		NioAcceptor acceptor = (NioAcceptor) NioFactory.newTcpAcceptorBuilder(new NioAcceptorHandler() {
+			@Override
+			public void channelOpened(Channel<byte[]> channel) {
+				accepted.add(channel);
+			}
+		}).processorPoolSize(2).processorPicker(new NioRoundRobinProcessorPicker()).build();
+		acceptor.bind(PORT);
+		final StringBuffer rcv = new StringBuffer();
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {
+			@Override
+			public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+				rcv.append(new String(bytes));
+			}
+		});
+		connector.connect("127.0.0.1", PORT).get();
+		connector.connect("127.0.0.1", PORT).get();
+		Thread.sleep(200);
+
+		NioProcessor[] processors = acceptor.pool.getPool();
+		Assert.assertEquals(1, processors[0].channelCount());
+		Assert.assertEquals(1, processors[1].channelCount());
+
+		// write from another thread while the channel is migrating, bytes must keep their order
+		final Channel<byte[]> channel = accepted.get(0);
+		final int count = 1000;
+		Thread writer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				for (int i = 0; i < count; i++) {
+					channel.write((i + "\n").getBytes());
+				}
+			}
+		});
+		writer.start();
+		NioProcessor from = ((NioByteChannel) channel).getProcessor();
+		NioProcessor to   = (from == processors[0] ? processors[1] : processors[0]);
+		from.shed(to, Long.MAX_VALUE);
+		writer.join();
+		Thread.sleep(500);
+
+		Assert.assertSame(to, ((NioByteChannel) channel).getProcessor());
+		Assert.assertEquals(0, from.channelCount());
+		Assert.assertEquals(2, to.channelCount());
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			expected.append(i).append('\n');
+		}
+		Assert.assertEquals(expected.toString(), rcv.toString());
+
+		// the migrated channel still reads and writes, and closes in its new processor
+		rcv.setLength(0);
+		channel.write("hello migration\n".getBytes());
+		Thread.sleep(200);
+		Assert.assertEquals("hello migration\n", rcv.toString());
+		channel.close();
+		Thread.sleep(200);
+		Assert.assertEquals(1, to.channelCount());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio channel migration. ", CaseCounter.incr(1)));
+	}
+	
+	@Test
+	public void testShedAfterLongIdle() throws Exception {
+		final List<Channel<byte[]>> accepted = new CopyOnWriteArrayList<Channel<byte[]>>();
+		NioAcceptor acceptor = (NioAcceptor) NioFactory.newTcpAcceptorBuilder(new NioAcceptorHandler() {
+			@Override
+			public void channelOpened(Channel<byte[]> channel) {
+				accepted.add(channel);
+			}
+		}).processorPoolSize(2).processorPicker(new NioRoundRobinProcessorPicker()).build();
+		int port = AvailablePortFinder.getNextAvailable(PORT + 1);
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		for (int i = 0; i < 3; i++) {
+			connector.connect("127.0.0.1", port).get();
+			Thread.sleep(100);
+		}
+		Thread.sleep(200);
+		
+		// the first and the third channel share a processor
+		final Channel<byte[]> hot  = accepted.get(0);
+		final Channel<byte[]> cold = accepted.get(2);
+		NioProcessor from = ((NioByteChannel) hot).getProcessor();
+		Assert.assertSame(from, ((NioByteChannel) cold).getProcessor());
+		NioProcessor[] processors = acceptor.pool.getPool();
+		NioProcessor to = (from == processors[0] ? processors[1] : processors[0]);
+		
+		// the processor stays idle for a long time before the first shed request
+		Thread.sleep(2000);
+		final AtomicBoolean running = new AtomicBoolean(true);
+		Thread writer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				byte[] bytes = new byte[1024];
+				while (running.get()) {
+					hot.write(bytes);
+					try { Thread.sleep(1); } catch (InterruptedException e) { return; }
+				}
+			}
+		});
+		writer.start();
+		Thread.sleep(2500);
+		
+		// the hot channel exceeds half of the processor rate, only the cold one may be shed
+		long rate = from.ioRate();
+		Assert.assertTrue(rate > 0);
+		from.shed(to, rate / 2);
+		Thread.sleep(200);
+		running.set(false);
+		writer.join();
+		
+		Assert.assertSame(from, ((NioByteChannel) hot).getProcessor());
+		Assert.assertSame(to, ((NioByteChannel) cold).getProcessor());
+		
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio shed after long idle. ", CaseCounter.incr(1)));
+	}
+
+}
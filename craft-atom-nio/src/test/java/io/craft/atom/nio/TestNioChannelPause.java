@@ -0,0 +1,71 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for read suspension of paused channel.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioChannelPause {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(47777);
+
+
+	@Test
+	public void testPauseAndResume() throws Exception {
+		PauseHandler handler = new PauseHandler();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptor(handler);
+		acceptor.bind(PORT);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+
+		Channel<byte[]> channel = connector.connect("127.0.0.1", PORT).get();
+		Assert.assertTrue(handler.opened.await(2, TimeUnit.SECONDS));
+		channel.write("hello\n".getBytes());
+		boolean read = handler.read.await(500, TimeUnit.MILLISECONDS);
+		Assert.assertFalse(read);
+
+		handler.channel.resume();
+		read = handler.read.await(2, TimeUnit.SECONDS);
+		acceptor.shutdown();
+		connector.shutdown();
+		Assert.assertTrue(read);
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio channel pause and resume. ", CaseCounter.incr(1)));
+	}
+
+
+	private static class PauseHandler extends AbstractIoHandler {
+
+		private final    CountDownLatch  opened = new CountDownLatch(1);
+		private final    CountDownLatch  read   = new CountDownLatch(1);
+		private volatile Channel<byte[]> channel                       ;
+
+		@Override
+		public void channelOpened(Channel<byte[]> channel) {
+			channel.pause();
+			this.channel = channel;
+			opened.countDown();
+		}
+
+		@Override
+		public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+			read.countDown();
+		}
+
+	}
+
+}
@@ -0,0 +1,118 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NioByteChannel#writeFile(FileChannel, long, long)}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioFileTransfer {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(35111);
+
+
+	@Test
+	public void testFairFlush() throws Exception {
+		test(NioFactory.newTcpConnectorBuilder(new AbstractIoHandler() {}).build(), PORT);
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio file transfer with fair flush. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testOneOffFlush() throws Exception {
+		test(NioFactory.newTcpConnectorBuilder(new AbstractIoHandler() {}).readWriteFair(false).build(), AvailablePortFinder.getNextAvailable(PORT + 1));
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio file transfer with one-off flush. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testGatheringFlush() throws Exception {
+		test(NioFactory.newTcpConnectorBuilder(new AbstractIoHandler() {}).gatheringWriteSize(4).build(), AvailablePortFinder.getNextAvailable(PORT + 2));
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio file transfer with gathering flush. ", CaseCounter.incr(1)));
+	}
+
+	private void test(IoConnector connector, int port) throws Exception {
+		byte[] content = new byte[256 * 1024];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) (i % 251);
+		}
+		File file = File.createTempFile("craft-atom-nio-file-transfer", ".tmp");
+		file.deleteOnExit();
+		FileOutputStream out = new FileOutputStream(file);
+		out.write(content);
+		out.close();
+
+		ReceiveHandler handler = new ReceiveHandler();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(handler).build();
+		acceptor.bind(port);
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		FileChannel fc = raf.getChannel();
+
+		// the file region is flushed in order with ordinary buffers
+		int offset = 1000;
+		int count = content.length - 2000;
+		NioByteChannel channel = (NioByteChannel) connector.connect("127.0.0.1", port).get();
+		channel.write("head".getBytes());
+		Assert.assertTrue(channel.writeFile(fc, offset, count));
+		channel.write("tail".getBytes());
+
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		expected.write("head".getBytes());
+		expected.write(content, offset, count);
+		expected.write("tail".getBytes());
+		for (int i = 0; i < 100 && handler.size() < expected.size(); i++) {
+			Thread.sleep(50);
+		}
+		Assert.assertArrayEquals(expected.toByteArray(), handler.bytes());
+
+		raf.close();
+		acceptor.shutdown();
+		connector.shutdown();
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class ReceiveHandler extends AbstractIoHandler {
+
+		private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+
+		@Override
+		public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+			synchronized (received) {
+				received.write(bytes, 0, bytes.length);
+			}
+		}
+
+		private int size() {
+			synchronized (received) {
+				return received.size();
+			}
+		}
+
+		private byte[] bytes() {
+			synchronized (received) {
+				return received.toByteArray();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,140 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.net.SocketException;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for gathering write.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioGatheringWrite {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(45555);
+
+
+	@Test
+	public void testSmallMessages() throws Exception {
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(new NioAcceptorHandler()).gatheringWriteSize(16).build();
+		acceptor.bind(PORT);
+		NioConnectorHandler handler = new NioConnectorHandler();
+		IoConnector connector = NioFactory.newTcpConnectorBuilder(handler).gatheringWriteSize(16).build();
+
+		StringBuilder sb = new StringBuilder();
+		Future<Channel<byte[]>> future = connector.connect("127.0.0.1", PORT);
+		Channel<byte[]> channel = future.get();
+		synchronized (channel) {
+			for (int i = 0; i < 2000; i++) {
+				String s = Integer.toString(i);
+				sb.append(s);
+				channel.write(s.getBytes());
+			}
+			sb.append("\n");
+			channel.write("\n".getBytes());
+			channel.wait(5000);
+		}
+		acceptor.shutdown();
+		connector.shutdown();
+		Assert.assertEquals(sb.toString(), handler.getRcv());
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio gathering write small messages. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testPartialWrite() throws Exception {
+		CountHandler serverHandler = new CountHandler();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(serverHandler).gatheringWriteSize(16).build();
+		int port = AvailablePortFinder.getNextAvailable(PORT + 1);
+		acceptor.bind(port);
+		ReceiveHandler clientHandler = new ReceiveHandler();
+		IoConnector connector = NioFactory.newTcpConnector(clientHandler);
+		Channel<byte[]> channel = connector.connect("127.0.0.1", port).get();
+		for (int i = 0; i < 100 && serverHandler.channel == null; i++) {
+			Thread.sleep(10);
+		}
+		
+		// the server sends with a tiny socket buffer to a client which does not read yet, so each gathering write is partial.
+		int count = 64;
+		int size = 16 * 1024;
+		for (int i = 0; i < count; i++) {
+			serverHandler.channel.write(new byte[size]);
+		}
+		Thread.sleep(200);
+		channel.resume();
+		for (int i = 0; i < 200 && (clientHandler.received.get() < count * size || serverHandler.written.get() < count); i++) {
+			Thread.sleep(50);
+		}
+		
+		// flush and written events fire once per buffer however many passes a buffer takes.
+		Assert.assertEquals(count * size, clientHandler.received.get());
+		Assert.assertEquals(count, serverHandler.written.get());
+		Assert.assertEquals(count, serverHandler.flushed.get());
+		
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio gathering partial write. ", CaseCounter.incr(1)));
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class CountHandler extends AbstractIoHandler {
+
+		private final    AtomicInteger   flushed = new AtomicInteger();
+		private final    AtomicInteger   written = new AtomicInteger();
+		private volatile Channel<byte[]> channel                      ;
+
+		@Override
+		public void channelOpened(Channel<byte[]> channel) {
+			try {
+				((SocketChannel) ((NioByteChannel) channel).innerChannel()).socket().setSendBufferSize(4096);
+			} catch (SocketException e) {
+				throw new IllegalStateException(e);
+			}
+			this.channel = channel;
+		}
+
+		@Override
+		public void channelFlush(Channel<byte[]> channel, byte[] bytes) {
+			flushed.incrementAndGet();
+		}
+
+		@Override
+		public void channelWritten(Channel<byte[]> channel, byte[] bytes) {
+			written.incrementAndGet();
+		}
+
+	}
+
+	private static class ReceiveHandler extends AbstractIoHandler {
+
+		private final AtomicInteger received = new AtomicInteger();
+
+		@Override
+		public void channelOpened(Channel<byte[]> channel) {
+			channel.pause();
+		}
+
+		@Override
+		public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+			received.addAndGet(bytes.length);
+		}
+
+	}
+
+}
@@ -0,0 +1,82 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.ChannelEventType;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for ignored channel event types.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioIgnoredEvent {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(36111);
+
+
+	@Test
+	public void testIgnoredEvent() throws Exception {
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(new AbstractIoHandler() {}).build();
+		acceptor.bind(PORT);
+
+		WriteHandler handler = new WriteHandler();
+		IoConnector connector = NioFactory.newTcpConnectorBuilder(handler).build();
+		write(connector);
+		Assert.assertTrue(handler.flushed.get() > 0);
+		Assert.assertTrue(handler.written.get() > 0);
+
+		WriteHandler ignoredHandler = new WriteHandler();
+		IoConnector ignoredConnector = NioFactory.newTcpConnectorBuilder(ignoredHandler).ignoredEventTypes(EnumSet.of(ChannelEventType.CHANNEL_FLUSH, ChannelEventType.CHANNEL_WRITTEN)).build();
+		write(ignoredConnector);
+		Assert.assertEquals(0, ignoredHandler.flushed.get());
+		Assert.assertEquals(0, ignoredHandler.written.get());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		ignoredConnector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio ignored flush and written events. ", CaseCounter.incr(1)));
+	}
+
+	private void write(IoConnector connector) throws Exception {
+		Channel<byte[]> channel = connector.connect("127.0.0.1", PORT).get();
+		for (int i = 0; i < 10; i++) {
+			channel.write(new byte[] { (byte) i });
+		}
+		Thread.sleep(200);
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class WriteHandler extends AbstractIoHandler {
+
+		private final AtomicInteger flushed = new AtomicInteger();
+		private final AtomicInteger written = new AtomicInteger();
+
+		@Override
+		public void channelFlush(Channel<byte[]> channel, byte[] bytes) {
+			flushed.incrementAndGet();
+		}
+
+		@Override
+		public void channelWritten(Channel<byte[]> channel, byte[] bytes) {
+			written.incrementAndGet();
+		}
+
+	}
+
+}
@@ -0,0 +1,132 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NioProcessorGroup}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioProcessorGroup {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(33111);
+
+
+	@Test
+	public void testSharedGroup() throws Exception {
+		NioProcessorGroup group = NioFactory.newProcessorGroupBuilder().processorPoolSize(2).build();
+		ReadHandler acceptorHandler = new ReadHandler();
+		CloseHandler handler1 = new CloseHandler();
+		CloseHandler handler2 = new CloseHandler();
+		NioAcceptor  acceptor   = (NioAcceptor)  NioFactory.newTcpAcceptorBuilder(acceptorHandler).processorGroup(group).build();
+		NioConnector connector1 = (NioConnector) NioFactory.newTcpConnectorBuilder(handler1).processorGroup(group).build();
+		NioConnector connector2 = (NioConnector) NioFactory.newTcpConnectorBuilder(handler2).processorGroup(group).build();
+		acceptor.bind(PORT);
+		Assert.assertEquals(4, group.refCount());
+		Assert.assertSame(acceptor.pool, connector1.pool);
+		Assert.assertSame(acceptor.pool, connector2.pool);
+
+		// events are fired to handler of each reactor
+		Channel<byte[]> channel1 = connector1.connect("127.0.0.1", PORT).get();
+		Channel<byte[]> channel2 = connector2.connect("127.0.0.1", PORT).get();
+		channel1.write(new byte[] { 1 });
+		channel2.write(new byte[] { 2 });
+		acceptorHandler.await(2);
+		Assert.assertEquals(3, acceptorHandler.bytes.get());
+
+		// shutdown one connector closes its own channels only
+		connector1.shutdown();
+		Assert.assertTrue(handler1.closed.await(5, TimeUnit.SECONDS));
+		Assert.assertEquals(3, group.refCount());
+		Assert.assertTrue(channel2.isOpen());
+		channel2.write(new byte[] { 3 });
+		acceptorHandler.await(3);
+		Assert.assertEquals(6, acceptorHandler.bytes.get());
+
+		// processors are shutdown after the last reference is released
+		connector2.shutdown();
+		acceptor.shutdown();
+		group.shutdown();
+		group.shutdown();
+		for (int i = 0; i < 100 && group.refCount() > 0; i++) {
+			Thread.sleep(50);
+		}
+		Assert.assertEquals(0, group.refCount());
+		try {
+			NioFactory.newTcpConnectorBuilder(handler1).processorGroup(group).build();
+			Assert.fail();
+		} catch (IllegalStateException e) {}
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio processor group shared by acceptor and connectors. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testShutdownUnboundAcceptorTwice() throws Exception {
+		NioProcessorGroup group = NioFactory.newProcessorGroupBuilder().processorPoolSize(1).build();
+		NioAcceptor  acceptor  = (NioAcceptor)  NioFactory.newTcpAcceptorBuilder(new ReadHandler()).processorGroup(group).build();
+		NioConnector connector = (NioConnector) NioFactory.newTcpConnectorBuilder(new ReadHandler()).processorGroup(group).build();
+		Assert.assertEquals(3, group.refCount());
+
+		// an unbound acceptor releases its reference once however many times it is shutdown
+		acceptor.shutdown();
+		acceptor.shutdown();
+		Assert.assertEquals(2, group.refCount());
+		Assert.assertNotNull(NioFactory.newTcpConnectorBuilder(new ReadHandler()).processorGroup(group).build());
+		Assert.assertEquals(3, group.refCount());
+
+		connector.shutdown();
+		connector.shutdown();
+		Assert.assertEquals(2, group.refCount());
+		group.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio shutdown unbound acceptor twice on processor group. ", CaseCounter.incr(1)));
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class ReadHandler extends AbstractIoHandler {
+
+		private final AtomicInteger reads = new AtomicInteger();
+		private final AtomicInteger bytes = new AtomicInteger();
+
+		@Override
+		public void channelRead(Channel<byte[]> channel, byte[] data) {
+			for (byte b : data) {
+				bytes.addAndGet(b);
+			}
+			reads.addAndGet(data.length);
+		}
+
+		private void await(int count) throws InterruptedException {
+			for (int i = 0; i < 100 && reads.get() < count; i++) {
+				Thread.sleep(50);
+			}
+		}
+
+	}
+
+	private static class CloseHandler extends AbstractIoHandler {
+
+		private final CountDownLatch closed = new CountDownLatch(1);
+
+		@Override
+		public void channelClosed(Channel<byte[]> channel) {
+			closed.countDown();
+		}
+
+	}
+
+}
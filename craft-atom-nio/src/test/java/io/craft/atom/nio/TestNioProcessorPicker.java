@@ -0,0 +1,129 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.nio.spi.NioProcessorPicker;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NioProcessorPicker}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioProcessorPicker {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(43333);
+
+
+	@Test
+	public void testRoundRobin() throws Exception {
+		test(new NioRoundRobinProcessorPicker(), PORT);
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio round robin processor picker. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testLeastChannel() throws Exception {
+		test(new NioLeastChannelProcessorPicker(), AvailablePortFinder.getNextAvailable(PORT + 1));
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio least channel processor picker. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testLeastLoad() throws Exception {
+		test(new NioLeastLoadProcessorPicker(), AvailablePortFinder.getNextAvailable(PORT + 2));
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio least load processor picker. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testLeastEventLoad() throws Exception {
+		test(new NioLeastLoadProcessorPicker(true), AvailablePortFinder.getNextAvailable(PORT + 3));
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio least event load processor picker. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testRateSample() throws Exception {
+		int port = AvailablePortFinder.getNextAvailable(PORT + 4);
+		NioAcceptor acceptor = (NioAcceptor) NioFactory.newTcpAcceptorBuilder(new AbstractIoHandler() {}).processorPoolSize(1).build();
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		Channel<byte[]> channel = connector.connect("127.0.0.1", port).get();
+		NioProcessor processor = acceptor.pool.getPool()[0];
+
+		// rates are sampled by process thread, not by the caller
+		long deadline = System.currentTimeMillis() + 1500;
+		while (System.currentTimeMillis() < deadline) {
+			channel.write(new byte[1024]);
+			Thread.sleep(5);
+		}
+		Assert.assertTrue(processor.ioRate() > 0);
+		Assert.assertTrue(processor.ioEventRate() > 0);
+
+		// a quiet processor decays to zero, within a sample interval plus a select timeout
+		Thread.sleep(3500);
+		Assert.assertEquals(0, processor.ioRate());
+		Assert.assertEquals(0, processor.ioEventRate());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio processor rate sample. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testLeastLoadNoHerding() throws Exception {
+		int port = AvailablePortFinder.getNextAvailable(PORT + 5);
+		NioAcceptor acceptor = (NioAcceptor) NioFactory.newTcpAcceptorBuilder(new AbstractIoHandler() {}).processorPoolSize(2).processorPicker(new NioLeastLoadProcessorPicker()).build();
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+
+		// one busy channel makes its processor loaded in the last sample, the other processor is quiet
+		Channel<byte[]> busy = connector.connect("127.0.0.1", port).get();
+		long deadline = System.currentTimeMillis() + 1500;
+		while (System.currentTimeMillis() < deadline) {
+			busy.write(new byte[1024]);
+			Thread.sleep(5);
+		}
+		NioProcessor[] processors = acceptor.pool.getPool();
+		NioProcessor loaded = (processors[0].ioRate() > 0 ? processors[0] : processors[1]);
+		Assert.assertTrue(loaded.ioRate() > 0);
+		
+		// a burst of new channels within the sample window is not herded onto the quiet processor
+		for (int i = 0; i < 6; i++) {
+			connector.connect("127.0.0.1", port).get();
+		}
+		Assert.assertTrue(loaded.channelCount() > 1);
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio least load processor picker without herding. ", CaseCounter.incr(1)));
+	}
+
+	private void test(NioProcessorPicker picker, int port) throws Exception {
+		NioAcceptor acceptor = (NioAcceptor) NioFactory.newTcpAcceptorBuilder(new AbstractIoHandler() {}).processorPoolSize(4).processorPicker(picker).build();
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+
+		List<Channel<byte[]>> channels = new ArrayList<Channel<byte[]>>();
+		for (int i = 0; i < 8; i++) {
+			channels.add(connector.connect("127.0.0.1", port).get());
+		}
+		Thread.sleep(200);
+
+		NioProcessor[] processors = acceptor.pool.getPool();
+		for (NioProcessor processor : processors) {
+			Assert.assertEquals(2, ((NioProcessorX) processor.x()).getAliveChannelCount());
+		}
+		acceptor.shutdown();
+		connector.shutdown();
+	}
+
+}
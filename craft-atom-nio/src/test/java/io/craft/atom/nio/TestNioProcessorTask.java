@@ -0,0 +1,185 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for tasks executed and scheduled on the process thread of {@link NioProcessor}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioProcessorTask {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(29111);
+
+
+	@Test
+	public void testProcessorTask() throws Exception {
+		final AtomicReference<Thread> eventThread = new AtomicReference<Thread>();
+		final CountDownLatch          opened      = new CountDownLatch(1);
+		IoAcceptor acceptor = NioFactory.newTcpAcceptor(new AbstractIoHandler() {});
+		acceptor.bind(PORT);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {
+			@Override
+			public void channelOpened(Channel<byte[]> channel) {
+				eventThread.set(Thread.currentThread());
+				opened.countDown();
+			}
+		});
+		Channel<byte[]> channel = connector.connect("127.0.0.1", PORT).get();
+		Assert.assertTrue(opened.await(2, TimeUnit.SECONDS));
+		NioProcessor processor = ((NioByteChannel) channel).getProcessor();
+
+		// execute runs in the thread firing the channel events
+		final AtomicReference<Thread> taskThread = new AtomicReference<Thread>();
+		final CountDownLatch          executed   = new CountDownLatch(1);
+		processor.execute(new Runnable() {
+			@Override
+			public void run() {
+				taskThread.set(Thread.currentThread());
+				executed.countDown();
+			}
+		});
+		Assert.assertTrue(executed.await(2, TimeUnit.SECONDS));
+		Assert.assertSame(eventThread.get(), taskThread.get());
+
+		// one-shot tasks run by deadline, a cancelled one never runs
+		final List<Integer>  order     = new CopyOnWriteArrayList<Integer>();
+		final CountDownLatch scheduled = new CountDownLatch(2);
+		processor.schedule(new Order(order, 2, scheduled), 200, TimeUnit.MILLISECONDS);
+		NioScheduledTask cancelled = processor.schedule(new Order(order, 3, scheduled), 100, TimeUnit.MILLISECONDS);
+		NioScheduledTask first     = processor.schedule(new Order(order, 1, scheduled), 50 , TimeUnit.MILLISECONDS);
+		Assert.assertTrue(cancelled.cancel());
+		Assert.assertTrue(scheduled.await(2, TimeUnit.SECONDS));
+		Thread.sleep(50);
+		Assert.assertEquals(2, order.size());
+		Assert.assertEquals(Integer.valueOf(1), order.get(0));
+		Assert.assertEquals(Integer.valueOf(2), order.get(1));
+		Assert.assertTrue(first.isDone());
+		Assert.assertFalse(first.cancel());
+
+		// periodic task runs until cancelled
+		final AtomicInteger  count    = new AtomicInteger();
+		final CountDownLatch periodic = new CountDownLatch(3);
+		NioScheduledTask task = processor.scheduleAtFixedRate(new Runnable() {
+			@Override
+			public void run() {
+				count.incrementAndGet();
+				periodic.countDown();
+			}
+		}, 0, 20, TimeUnit.MILLISECONDS);
+		Assert.assertTrue(periodic.await(2, TimeUnit.SECONDS));
+		Assert.assertTrue(task.cancel());
+		Thread.sleep(50);
+		int stopped = count.get();
+		Thread.sleep(100);
+		Assert.assertEquals(stopped, count.get());
+
+		// periodic task is stopped by an exception
+		NioScheduledTask failed = processor.scheduleAtFixedRate(new Runnable() {
+			@Override
+			public void run() {
+				throw new RuntimeException("expected");
+			}
+		}, 0, 20, TimeUnit.MILLISECONDS);
+		for (int i = 0; i < 40 && !failed.isDone(); i++) {
+			Thread.sleep(50);
+		}
+		Assert.assertTrue(failed.isDone());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio processor execute and schedule tasks. ", CaseCounter.incr(1)));
+	}
+	
+	@Test
+	public void testPurgeCancelledTasks() throws Exception {
+		IoAcceptor acceptor = NioFactory.newTcpAcceptor(new AbstractIoHandler() {});
+		int port = AvailablePortFinder.getNextAvailable(PORT + 1);
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		Channel<byte[]> channel = connector.connect("127.0.0.1", port).get();
+		final NioProcessor processor = ((NioByteChannel) channel).getProcessor();
+		
+		// long timeouts cancelled early must not be retained until their deadlines
+		// a live task at the head hides the cancelled ones behind it
+		NioScheduledTask live = processor.schedule(new Noop(), 20, TimeUnit.SECONDS);
+		List<NioScheduledTask> timeouts = new ArrayList<NioScheduledTask>();
+		for (int i = 0; i < 10000; i++) {
+			timeouts.add(processor.schedule(new Noop(), 30, TimeUnit.SECONDS));
+		}
+		Thread.sleep(200);
+		for (NioScheduledTask st : timeouts) {
+			Assert.assertTrue(st.cancel());
+			Assert.assertFalse(st.cancel());
+		}
+		
+		// let the process thread loop once to purge
+		processor.execute(new Noop());
+		Thread.sleep(200);
+		final AtomicInteger  size = new AtomicInteger();
+		final CountDownLatch read = new CountDownLatch(1);
+		processor.execute(new Runnable() {
+			@Override
+			public void run() {
+				size.set(processor.scheduledTaskCount());
+				read.countDown();
+			}
+		});
+		Assert.assertTrue(read.await(2, TimeUnit.SECONDS));
+		Assert.assertTrue("retained " + size.get(), size.get() <= 512);
+		Assert.assertFalse(live.isCancelled());
+		
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio processor purge cancelled tasks. ", CaseCounter.incr(1)));
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class Noop implements Runnable {
+
+		@Override
+		public void run() {}
+	}
+
+	private static class Order implements Runnable {
+
+		private final List<Integer>  order;
+		private final int            id   ;
+		private final CountDownLatch latch;
+
+		Order(List<Integer> order, int id, CountDownLatch latch) {
+			this.order = order;
+			this.id    = id;
+			this.latch = latch;
+		}
+
+		@Override
+		public void run() {
+			order.add(id);
+			latch.countDown();
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.nio.spi.NioReadBufferHandler;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NioReadBuffer}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioReadBuffer {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(44444);
+
+
+	@Test
+	public void testRefCount() {
+		NioByteBufferPool pool = new NioByteBufferPool(65536);
+		ByteBuffer buf = pool.acquire(100);
+		Assert.assertEquals(128, buf.capacity());
+		buf.put((byte) 1).flip();
+
+		NioReadBuffer rb = new NioReadBuffer(buf, pool);
+		Assert.assertEquals(1, rb.size());
+		Assert.assertEquals(1, rb.refCount());
+		rb.retain();
+		Assert.assertFalse(rb.release());
+		Assert.assertEquals(0, pool.size());
+		Assert.assertTrue(rb.release());
+		Assert.assertEquals(1, pool.size());
+		Assert.assertSame(buf, pool.acquire(65));
+
+		try {
+			rb.release();
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			Assert.assertTrue(true);
+		}
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio read buffer ref count. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testEcho() throws Exception {
+		IoAcceptor acceptor = NioFactory.newTcpAcceptor(new NioReadBufferAcceptorHandler());
+		acceptor.bind(PORT);
+		NioConnectorHandler handler = new NioConnectorHandler();
+		IoConnector connector = NioFactory.newTcpConnector(handler);
+		String msg = "hello zero copy\n";
+
+		Future<Channel<byte[]>> future = connector.connect("127.0.0.1", PORT);
+		Channel<byte[]> channel = future.get();
+		synchronized (channel) {
+			channel.write(msg.getBytes());
+			channel.wait(2000);
+		}
+		acceptor.shutdown();
+		connector.shutdown();
+		Assert.assertEquals(msg, handler.getRcv());
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio read buffer echo. ", CaseCounter.incr(1)));
+	}
+
+
+	private static class NioReadBufferAcceptorHandler extends AbstractIoHandler implements NioReadBufferHandler {
+
+		@Override
+		public void channelRead(Channel<byte[]> channel, NioReadBuffer buffer) {
+			try {
+				channel.write(buffer.bytes());
+			} finally {
+				buffer.release();
+			}
+		}
+
+		@Override
+		public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+			Assert.fail();
+		}
+
+	}
+
+}
@@ -0,0 +1,60 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for read quota and process time budget.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioReadQuota {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(42222);
+
+
+	@Test
+	public void testReadQuota() throws Exception {
+		final AtomicInteger maxRead = new AtomicInteger();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(new NioAcceptorHandler() {
+			@Override
+			public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+				if (bytes.length > maxRead.get()) {
+					maxRead.set(bytes.length);
+				}
+				super.channelRead(channel, bytes);
+			}
+		}).readQuota(100).readSpinCount(1).processTimeBudgetInMillis(1).build();
+		acceptor.bind(PORT);
+		NioConnectorHandler handler = new NioConnectorHandler();
+		IoConnector connector = NioFactory.newTcpConnector(handler);
+
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			sb.append(i);
+		}
+		sb.append("\n");
+		Channel<byte[]> channel = connector.connect("127.0.0.1", PORT).get();
+		synchronized (channel) {
+			channel.write(sb.toString().getBytes());
+			channel.wait(5000);
+		}
+		acceptor.shutdown();
+		connector.shutdown();
+		Assert.assertEquals(sb.toString(), handler.getRcv());
+		Assert.assertTrue(maxRead.get() <= 100);
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio read quota. ", CaseCounter.incr(1)));
+	}
+
+}
@@ -0,0 +1,142 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.ChannelEventType;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NioRingBufferChannelEventDispatcher}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioRingBufferDispatcher {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(38111);
+
+
+	@Test
+	public void testBusySpin() throws Exception {
+		test(NioRingBufferChannelEventDispatcher.WaitStrategy.BUSY_SPIN, PORT);
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio ring buffer dispatcher with busy spin wait. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testYield() throws Exception {
+		test(NioRingBufferChannelEventDispatcher.WaitStrategy.YIELD, AvailablePortFinder.getNextAvailable(PORT + 1));
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio ring buffer dispatcher with yield wait. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testPark() throws Exception {
+		test(NioRingBufferChannelEventDispatcher.WaitStrategy.PARK, AvailablePortFinder.getNextAvailable(PORT + 2));
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio ring buffer dispatcher with park wait. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testRingWrap() throws Exception {
+		int port = AvailablePortFinder.getNextAvailable(PORT + 3);
+		IoAcceptor acceptor = NioFactory.newTcpAcceptor(new AbstractIoHandler() {});
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		NioByteChannel channel = (NioByteChannel) connector.connect("127.0.0.1", port).get();
+
+		// published fields and dispatched event objects share the slots of a 2 slots ring, which wraps many times
+		final List<Integer> order = new CopyOnWriteArrayList<Integer>();
+		AbstractIoHandler handler = new AbstractIoHandler() {
+			@Override
+			public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+				order.add((int) bytes[0]);
+			}
+		};
+		NioRingBufferChannelEventDispatcher dispatcher = new NioRingBufferChannelEventDispatcher(1, 2, NioRingBufferChannelEventDispatcher.WaitStrategy.BUSY_SPIN, Integer.MAX_VALUE);
+		int count = 100;
+		for (int i = 0; i < count; i++) {
+			byte[] bytes = new byte[] { (byte) i };
+			if (i % 2 == 0) {
+				dispatcher.publish(ChannelEventType.CHANNEL_READ, channel, handler, bytes);
+			} else {
+				dispatcher.dispatch(new NioByteChannelEvent(ChannelEventType.CHANNEL_READ, channel, handler, bytes));
+			}
+		}
+		for (int i = 0; i < 40 && order.size() < count; i++) {
+			Thread.sleep(50);
+		}
+		Assert.assertEquals(count, order.size());
+		for (int i = 0; i < count; i++) {
+			Assert.assertEquals(i, order.get(i).intValue());
+		}
+
+		dispatcher.shutdown();
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio ring buffer dispatcher ring wrap. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testDropOnShutdown() throws Exception {
+		int port = AvailablePortFinder.getNextAvailable(PORT + 4);
+		IoAcceptor acceptor = NioFactory.newTcpAcceptor(new AbstractIoHandler() {});
+		acceptor.bind(port);
+		IoConnector connector = NioFactory.newTcpConnector(new AbstractIoHandler() {});
+		final NioByteChannel channel = (NioByteChannel) connector.connect("127.0.0.1", port).get();
+		int permits = channel.availablePermits();
+
+		// the first event blocks the consumer, the second fills the only slot and the third waits for a slot
+		final CountDownLatch blocked = new CountDownLatch(1);
+		final AbstractIoHandler handler = new AbstractIoHandler() {
+			@Override
+			public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+				blocked.countDown();
+				try {
+					new CountDownLatch(1).await();
+				} catch (InterruptedException e) {}
+			}
+		};
+		final NioRingBufferChannelEventDispatcher dispatcher = new NioRingBufferChannelEventDispatcher(1, 1, NioRingBufferChannelEventDispatcher.WaitStrategy.PARK, Integer.MAX_VALUE);
+		dispatcher.publish(ChannelEventType.CHANNEL_READ, channel, handler, new byte[] { 1 });
+		Assert.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+		dispatcher.publish(ChannelEventType.CHANNEL_READ, channel, handler, new byte[] { 2 });
+		Thread publisher = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				dispatcher.publish(ChannelEventType.CHANNEL_READ, channel, handler, new byte[] { 3 });
+			}
+		});
+		publisher.start();
+		Thread.sleep(100);
+
+		// the dropped event gives back its permit, only the event left in the slot holds one
+		dispatcher.shutdown();
+		publisher.join(5000);
+		Assert.assertFalse(publisher.isAlive());
+		for (int i = 0; i < 100 && channel.availablePermits() != permits - 1; i++) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(permits - 1, channel.availablePermits());
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio ring buffer dispatcher drop on shutdown. ", CaseCounter.incr(1)));
+	}
+
+	private void test(NioRingBufferChannelEventDispatcher.WaitStrategy waitStrategy, int port) throws Exception {
+		// a tiny ring makes publishers wait and slots wrap around
+		NioDispatcherOrderTester.test(new NioRingBufferChannelEventDispatcher(2, 4, waitStrategy, Integer.MAX_VALUE), port);
+	}
+
+}
@@ -0,0 +1,67 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.nio.channels.Selector;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NioSelectedKeySet}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioSelectedKeySet {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(48888);
+
+
+	@Test
+	public void testInstall() throws Exception {
+		Selector selector = Selector.open();
+		try {
+			NioSelectedKeySet set = NioSelectedKeySet.install(selector);
+			
+			// sun.nio.ch.SelectorImpl is accessible up to jdk 8, a later jdk may deny the reflective access without --add-opens.
+			if (System.getProperty("java.specification.version").startsWith("1.")) {
+				Assert.assertNotNull("optimized selected key set should be installed on jdk " + System.getProperty("java.version"), set);
+			} else {
+				Assume.assumeNotNull(set);
+			}
+			Assert.assertSame(set, selector.selectedKeys());
+			Assert.assertEquals(0, set.size());
+		} finally {
+			selector.close();
+		}
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio selected key set install. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testEcho() throws Exception {
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(new NioAcceptorHandler()).optimizedSelector(true).build();
+		acceptor.bind(PORT);
+		NioConnectorHandler handler = new NioConnectorHandler();
+		IoConnector connector = NioFactory.newTcpConnectorBuilder(handler).optimizedSelector(true).build();
+		String msg = "hello optimized selector\n";
+
+		Channel<byte[]> channel = connector.connect("127.0.0.1", PORT).get();
+		synchronized (channel) {
+			channel.write(msg.getBytes());
+			channel.wait(2000);
+		}
+		acceptor.shutdown();
+		connector.shutdown();
+		Assert.assertEquals(msg, handler.getRcv());
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio optimized selector echo. ", CaseCounter.incr(1)));
+	}
+
+}
@@ -0,0 +1,152 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.nio.api.NioAcceptorConfig;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for udp peer channels of {@link NioUdpAcceptor}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioUdpAcceptor {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(40001);
+
+
+	@Test
+	public void testPeerEcho() throws Exception {
+		UdpHandler handler = new UdpHandler();
+		NioUdpAcceptor acceptor = new NioUdpAcceptor(handler, new NioAcceptorConfig());
+		acceptor.bind(PORT);
+
+		DatagramSocket client1 = newClient();
+		DatagramSocket client2 = newClient();
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals("c1-" + i, echo(client1, "c1-" + i));
+			Assert.assertEquals("c2-" + i, echo(client2, "c2-" + i));
+		}
+
+		// one peer channel per remote address, reused by later datagrams
+		Assert.assertEquals(2, handler.opened.get());
+		Assert.assertEquals(2, handler.peers.size());
+		Assert.assertEquals(0, handler.closed.get());
+
+		client1.close();
+		client2.close();
+		acceptor.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio udp peer echo. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testPeerEviction() throws Exception {
+		UdpHandler handler = new UdpHandler();
+		NioAcceptorConfig config = new NioAcceptorConfig();
+		config.setUdpPeerSize(1);
+		NioUdpAcceptor acceptor = new NioUdpAcceptor(handler, config);
+		int port = AvailablePortFinder.getNextAvailable(PORT + 1);
+		acceptor.bind(port);
+
+		DatagramSocket client1 = newClient();
+		DatagramSocket client2 = newClient();
+		Assert.assertEquals("c1", echo(client1, "c1", port));
+		Assert.assertEquals("c2", echo(client2, "c2", port));
+		Thread.sleep(100);
+
+		// the least recently read peer is evicted and closed
+		Assert.assertEquals(2, handler.opened.get());
+		Assert.assertEquals(1, handler.closed.get());
+
+		client1.close();
+		client2.close();
+		acceptor.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio udp peer eviction. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testPeerExpiration() throws Exception {
+		UdpHandler handler = new UdpHandler();
+		NioAcceptorConfig config = new NioAcceptorConfig();
+		config.setUdpPeerIdleTimeoutInMillis(100);
+		NioUdpAcceptor acceptor = new NioUdpAcceptor(handler, config);
+		int port = AvailablePortFinder.getNextAvailable(PORT + 2);
+		acceptor.bind(port);
+
+		DatagramSocket client = newClient();
+		Assert.assertEquals("c", echo(client, "c", port));
+		Thread.sleep(1500);
+
+		// the peer sends nothing for idle timeout is expired and closed
+		Assert.assertEquals(1, handler.closed.get());
+
+		client.close();
+		acceptor.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio udp peer expiration. ", CaseCounter.incr(1)));
+	}
+
+	private DatagramSocket newClient() throws Exception {
+		DatagramSocket socket = new DatagramSocket();
+		socket.setSoTimeout(3000);
+		return socket;
+	}
+
+	private String echo(DatagramSocket socket, String msg) throws Exception {
+		return echo(socket, msg, PORT);
+	}
+
+	private String echo(DatagramSocket socket, String msg, int port) throws Exception {
+		byte[] data = msg.getBytes();
+		socket.send(new DatagramPacket(data, data.length, new InetSocketAddress("127.0.0.1", port)));
+		DatagramPacket packet = new DatagramPacket(new byte[1024], 1024);
+		socket.receive(packet);
+		return new String(packet.getData(), 0, packet.getLength());
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class UdpHandler extends AbstractIoHandler {
+
+		private final AtomicInteger        opened = new AtomicInteger()                                                         ;
+		private final AtomicInteger        closed = new AtomicInteger()                                                         ;
+		private final Set<Channel<byte[]>> peers  = Collections.newSetFromMap(new ConcurrentHashMap<Channel<byte[]>, Boolean>());
+
+		@Override
+		public void channelOpened(Channel<byte[]> channel) {
+			if (((NioUdpByteChannel) channel).getParent() != null) {
+				opened.incrementAndGet();
+			}
+		}
+
+		@Override
+		public void channelClosed(Channel<byte[]> channel) {
+			if (((NioUdpByteChannel) channel).getParent() != null) {
+				closed.incrementAndGet();
+			}
+		}
+
+		@Override
+		public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+			peers.add(channel);
+			channel.write(bytes);
+		}
+
+	}
+
+}
@@ -0,0 +1,84 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for write buffer water mark.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioWriteBufferWaterMark {
+
+
+	private static final int PORT = AvailablePortFinder.getNextAvailable(46666);
+
+
+	@Test
+	public void testWritabilityChanged() throws Exception {
+		// the peer does not read until resumed, so the queued bytes can not be drained below the low mark before checked.
+		final AtomicReference<Channel<byte[]>> peer = new AtomicReference<Channel<byte[]>>();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptor(new AbstractIoHandler() {
+			@Override
+			public void channelOpened(Channel<byte[]> channel) {
+				channel.pause();
+				peer.set(channel);
+			}
+		});
+		acceptor.bind(PORT);
+		WritabilityHandler handler = new WritabilityHandler();
+		IoConnector connector = NioFactory.newTcpConnectorBuilder(handler).writeBufferHighWaterMark(64 * 1024).writeBufferLowWaterMark(16 * 1024).build();
+
+		NioByteChannel channel = (NioByteChannel) connector.connect("127.0.0.1", PORT).get();
+		Assert.assertTrue(channel.isWritable());
+		for (int i = 0; i < 100 && peer.get() == null; i++) {
+			Thread.sleep(10);
+		}
+		
+		// write until the unwritable event fires, it is bound to happen once the kernel buffers are full and bytes stay queued across flushes
+		for (int i = 0; i < 8192 && handler.unwritable.getCount() > 0; i++) {
+			channel.write(new byte[8 * 1024]);
+		}
+		Assert.assertTrue(handler.unwritable.await(5, TimeUnit.SECONDS));
+		
+		// the peer reads again, queued bytes are drained below the low mark
+		peer.get().resume();
+		boolean writable = handler.writable.await(5, TimeUnit.SECONDS);
+		acceptor.shutdown();
+		connector.shutdown();
+		Assert.assertTrue(writable);
+		Assert.assertTrue(channel.isWritable());
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio write buffer water mark. ", CaseCounter.incr(1)));
+	}
+
+
+	private static class WritabilityHandler extends AbstractIoHandler {
+
+		private final CountDownLatch unwritable = new CountDownLatch(1);
+		private final CountDownLatch writable   = new CountDownLatch(1);
+
+		@Override
+		public void channelWritabilityChanged(Channel<byte[]> channel) {
+			if (((NioByteChannel) channel).isWritable()) {
+				writable.countDown();
+			} else {
+				unwritable.countDown();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,228 @@
+package io.craft.atom.nio;
+
+import io.craft.atom.io.AbstractIoHandler;
+import io.craft.atom.io.Channel;
+import io.craft.atom.io.IoAcceptor;
+import io.craft.atom.io.IoConnector;
+import io.craft.atom.nio.api.NioFactory;
+import io.craft.atom.test.AvailablePortFinder;
+import io.craft.atom.test.CaseCounter;
+
+import java.io.ByteArrayOutputStream;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for write through fast path of {@link NioProcessor}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestNioWriteThrough {
+
+
+	private static final int    PORT        = AvailablePortFinder.getNextAvailable(28111);
+	private static final byte[] FIRST       = "first".getBytes();
+	private static final byte[] LAST        = "last".getBytes();
+	private static final byte[] LARGE       = new byte[256 * 1024];
+	private static final int    RECORDS     = 64;
+	private static final int    RECORD_SIZE = 60000;
+
+
+	@Test
+	public void testWriteThrough() throws Exception {
+		Arrays.fill(LARGE, (byte) 'x');
+		WriteHandler serverHandler = new WriteHandler();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(serverHandler).dispatcher(new NioOrderedDirectChannelEventDispatcher()).build();
+		acceptor.bind(PORT);
+		ReceiveHandler clientHandler = new ReceiveHandler();
+		IoConnector connector = NioFactory.newTcpConnector(clientHandler);
+		Channel<byte[]> channel = connector.connect("127.0.0.1", PORT).get();
+
+		// a small write in handler is written through, nothing is queued or scheduled to flush
+		channel.write(new byte[] { 1 });
+		wait(clientHandler, FIRST.length);
+		Assert.assertTrue(serverHandler.through);
+		Assert.assertEquals(1, serverHandler.flushed.get());
+		Assert.assertEquals(1, serverHandler.written.get());
+
+		// a large write is queued, the small write after it is queued behind rather than written through
+		channel.write(new byte[] { 2 });
+		int total = FIRST.length + LARGE.length + LAST.length;
+		wait(clientHandler, total);
+		Assert.assertFalse(serverHandler.through);
+		byte[] rcv = clientHandler.bytes();
+		Assert.assertEquals(total, rcv.length);
+		Assert.assertArrayEquals(FIRST, Arrays.copyOfRange(rcv, 0, FIRST.length));
+		Assert.assertArrayEquals(LARGE, Arrays.copyOfRange(rcv, FIRST.length, FIRST.length + LARGE.length));
+		Assert.assertArrayEquals(LAST , Arrays.copyOfRange(rcv, FIRST.length + LARGE.length, total));
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio write through in handler. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testPartialWriteThroughOrder() throws Exception {
+		MixedWriteHandler serverHandler = new MixedWriteHandler();
+		IoAcceptor acceptor = NioFactory.newTcpAcceptorBuilder(serverHandler).dispatcher(new NioOrderedDirectChannelEventDispatcher()).build();
+		int port = AvailablePortFinder.getNextAvailable(PORT + 1);
+		acceptor.bind(port);
+		
+		// the server sends with a tiny socket buffer and the client does not read until the server has written all, so writes through become partial.
+		ReceiveHandler clientHandler = new ReceiveHandler() {
+			@Override
+			public void channelOpened(Channel<byte[]> channel) {
+				channel.pause();
+			}
+		};
+		IoConnector connector = NioFactory.newTcpConnectorBuilder(clientHandler).dispatcher(new NioOrderedDirectChannelEventDispatcher()).build();
+		Channel<byte[]> channel = connector.connect("127.0.0.1", port).get();
+		Assert.assertTrue(serverHandler.done.await(10, TimeUnit.SECONDS));
+		channel.resume();
+		
+		int total = 2 * RECORDS * RECORD_SIZE;
+		for (int i = 0; i < 200 && clientHandler.size() < total; i++) {
+			Thread.sleep(50);
+		}
+		Assert.assertTrue(serverHandler.partial);
+		
+		// records of each writer arrive whole and in order, the remaining bytes of a partial write are never overtaken.
+		byte[] rcv = clientHandler.bytes();
+		Assert.assertEquals(total, rcv.length);
+		int[] next = new int[2];
+		for (int off = 0; off < total; off += RECORD_SIZE) {
+			byte[] record = Arrays.copyOfRange(rcv, off, off + RECORD_SIZE);
+			int id = record[0];
+			Assert.assertArrayEquals(record(id, next[id]), record);
+			next[id]++;
+		}
+		Assert.assertEquals(RECORDS, next[0]);
+		Assert.assertEquals(RECORDS, next[1]);
+
+		acceptor.shutdown();
+		connector.shutdown();
+		System.out.println(String.format("[CRAFT-ATOM-NIO] (^_^)  <%s>  Case -> test nio partial write through order. ", CaseCounter.incr(1)));
+	}
+	
+	private static byte[] record(int id, int seq) {
+		byte[] record = new byte[RECORD_SIZE];
+		Arrays.fill(record, (byte) (id * 31 + seq));
+		record[0] = (byte) id;
+		record[1] = (byte) (seq >>> 24);
+		record[2] = (byte) (seq >>> 16);
+		record[3] = (byte) (seq >>> 8);
+		record[4] = (byte) seq;
+		return record;
+	}
+
+	private void wait(ReceiveHandler handler, int size) throws InterruptedException {
+		for (int i = 0; i < 100 && handler.size() < size; i++) {
+			Thread.sleep(50);
+		}
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class WriteHandler extends AbstractIoHandler {
+
+		private final    AtomicInteger flushed = new AtomicInteger();
+		private final    AtomicInteger written = new AtomicInteger();
+		private volatile boolean       through       ;
+
+		@Override
+		public void channelRead(Channel<byte[]> channel, byte[] bytes) {
+			NioByteChannel nc = (NioByteChannel) channel;
+			if (bytes[0] == 1) {
+				channel.write(FIRST);
+			} else {
+				channel.write(LARGE);
+				channel.write(LAST);
+			}
+			through = !nc.isScheduleFlush() && nc.getWriteBufferQueue().isEmpty();
+		}
+
+		@Override
+		public void channelFlush(Channel<byte[]> channel, byte[] bytes) {
+			flushed.incrementAndGet();
+		}
+
+		@Override
+		public void channelWritten(Channel<byte[]> channel, byte[] bytes) {
+			written.incrementAndGet();
+		}
+
+	}
+
+	private static class MixedWriteHandler extends AbstractIoHandler {
+
+		private final    CountDownLatch done = new CountDownLatch(2);
+		private volatile boolean        partial;
+
+		@Override
+		public void channelOpened(final Channel<byte[]> channel) {
+			NioByteChannel nc = (NioByteChannel) channel;
+			try {
+				((SocketChannel) nc.innerChannel()).socket().setSendBufferSize(4096);
+			} catch (SocketException e) {
+				throw new IllegalStateException(e);
+			}
+			
+			boolean started = false;
+			for (int i = 0; i < RECORDS; i++) {
+				boolean head = !nc.isScheduleFlush() && nc.getWriteBufferQueue().isEmpty();
+				channel.write(record(0, i));
+				ByteBuffer buf = nc.getWriteBufferQueue().peek();
+				if (head && buf != null && buf.position() > 0) {
+					partial = true;
+				}
+				
+				// another thread writes at the same time as the process thread once a write through is partial
+				if (!started && (partial || i == RECORDS / 2)) {
+					started = true;
+					new Thread(new Runnable() {
+						@Override
+						public void run() {
+							for (int j = 0; j < RECORDS; j++) {
+								channel.write(record(1, j));
+							}
+							done.countDown();
+						}
+					}).start();
+				}
+			}
+			done.countDown();
+		}
+
+	}
+
+	private static class ReceiveHandler extends AbstractIoHandler {
+
+		private final ByteArrayOutputStream rcv = new ByteArrayOutputStream();
+
+		@Override
+		public synchronized void channelRead(Channel<byte[]> channel, byte[] bytes) {
+			rcv.write(bytes, 0, bytes.length);
+		}
+
+		synchronized int size() {
+			return rcv.size();
+		}
+
+		synchronized byte[] bytes() {
+			return rcv.toByteArray();
+		}
+
+	}
+
+}
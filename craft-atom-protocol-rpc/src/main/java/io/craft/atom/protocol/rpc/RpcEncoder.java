@@ -1,5 +1,6 @@
 package io.craft.atom.protocol.rpc;
 
+import io.craft.atom.protocol.ProtocolBufferEncoder;
 import io.craft.atom.protocol.ProtocolEncoder;
 import io.craft.atom.protocol.ProtocolException;
 import io.craft.atom.protocol.rpc.api.SerializationRegistry;
@@ -10,6 +11,8 @@ import io.craft.atom.protocol.rpc.spi.Serialization;
 import io.craft.atom.util.Assert;
 import io.craft.atom.util.ByteUtil;
 
+import java.nio.ByteBuffer;
+
 
 /**
  * A {@link ProtocolEncoder} which encodes a {@code RpcMessage} object into bytes follow the generic RPC format.
@@ -19,7 +22,7 @@ import io.craft.atom.util.ByteUtil;
  * @author mindwind
  * @version 1.0, Jul 17, 2014
  */
-public class RpcEncoder implements ProtocolEncoder<RpcMessage> {
+public class RpcEncoder implements ProtocolBufferEncoder<RpcMessage> {
 	
 
 	private SerializationRegistry registry = SerializationRegistry.getInstance();
@@ -38,13 +41,7 @@ public class RpcEncoder implements ProtocolEncoder<RpcMessage> {
 	public byte[] encode(RpcMessage rm) throws ProtocolException {
 		if (rm == null) return null;
 		RpcHeader rh = rm.getHeader();
-		RpcBody rb = rm.getBody();
-		Assert.notNull(rh);
-		Assert.notNull(rb);
-		
-		Serialization<RpcBody> serializer = registry.lookup(rh.getSt());
-		if (serializer == null) throw new ProtocolException("No mapping `serializer`!");
-		byte[] body = encodeBody(rb, serializer);
+		byte[] body = encodeBody(rm);
 		
 		byte[] encoded = new byte[rh.getHeaderSize() + body.length];
 		rh.setBodySize(body.length);
@@ -54,7 +51,36 @@ public class RpcEncoder implements ProtocolEncoder<RpcMessage> {
 		return encoded;
 	}
 	
-	private byte[] encodeBody(RpcBody rb, Serialization<RpcBody> serializer) {
+	/**
+	 * Encodes a {@code RpcMessage} object into a header buffer and a body buffer, 
+	 * they can be written as one message without concatenating them into a new array.
+	 * If input <tt>null</tt> output <tt>null</tt>
+	 * 
+	 * @param rm
+	 * @return header and body buffers
+	 * @throws ProtocolException
+	 */
+	@Override
+	public ByteBuffer[] encodeBuffers(RpcMessage rm) throws ProtocolException {
+		if (rm == null) return null;
+		RpcHeader rh = rm.getHeader();
+		byte[] body = encodeBody(rm);
+		
+		byte[] header = new byte[rh.getHeaderSize()];
+		rh.setBodySize(body.length);
+		
+		encodeHeader(header, rh);
+		return new ByteBuffer[] { ByteBuffer.wrap(header), ByteBuffer.wrap(body) };
+	}
+	
+	private byte[] encodeBody(RpcMessage rm) throws ProtocolException {
+		RpcHeader rh = rm.getHeader();
+		RpcBody rb = rm.getBody();
+		Assert.notNull(rh);
+		Assert.notNull(rb);
+		
+		Serialization<RpcBody> serializer = registry.lookup(rh.getSt());
+		if (serializer == null) throw new ProtocolException("No mapping `serializer`!");
 		return serializer.serialize(rb);
 	}
 	
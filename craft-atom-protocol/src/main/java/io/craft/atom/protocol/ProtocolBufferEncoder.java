@@ -0,0 +1,25 @@
+package io.craft.atom.protocol;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Optional extension of {@link ProtocolEncoder} for encoders which can produce the binary data in several buffers, 
+ * so the caller writes them as one message without concatenating them into a new array.
+ * Encoders not implementing it are still written through {@link #encode(Object)}.
+ * 
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public interface ProtocolBufferEncoder<P> extends ProtocolEncoder<P> {
+	
+	/**
+	 * Encodes higher-level protocol objects into buffers, they are written as one message without concatenating them.
+	 * If input <tt>null</tt> output <tt>null</tt>
+	 * 
+	 * @param protocolObject
+	 * @return buffers of the binary data
+	 * @throws ProtocolException
+	 */
+	ByteBuffer[] encodeBuffers(P protocolObject) throws ProtocolException;
+	
+}
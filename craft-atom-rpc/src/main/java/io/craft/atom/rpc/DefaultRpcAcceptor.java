@@ -1,6 +1,7 @@
 package io.craft.atom.rpc;
 
 
+import io.craft.atom.io.ChannelEventType;
 import io.craft.atom.io.IoAcceptor;
 import io.craft.atom.io.IoHandler;
 import io.craft.atom.nio.NioOrderedDirectChannelEventDispatcher;
@@ -11,6 +12,7 @@ import io.craft.atom.rpc.spi.RpcProtocol;
 
 import java.io.IOException;
 import java.net.SocketAddress;
+import java.util.EnumSet;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -48,6 +50,7 @@ public class DefaultRpcAcceptor implements RpcAcceptor {
 							   .channelSize(connections)
 				               .ioTimeoutInMillis(ioTimeoutInMillis)
 				               .dispatcher(new NioOrderedDirectChannelEventDispatcher())
+				               .ignoredEventTypes(EnumSet.of(ChannelEventType.CHANNEL_FLUSH, ChannelEventType.CHANNEL_WRITTEN))
 				               .build();
 		ioAcceptor.bind(address);
 	}
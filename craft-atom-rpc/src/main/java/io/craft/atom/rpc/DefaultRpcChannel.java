@@ -1,12 +1,15 @@
 package io.craft.atom.rpc;
 
+import io.craft.atom.io.AbstractIoByteChannel;
 import io.craft.atom.io.Channel;
 import io.craft.atom.io.IllegalChannelStateException;
+import io.craft.atom.protocol.ProtocolBufferEncoder;
 import io.craft.atom.protocol.ProtocolDecoder;
 import io.craft.atom.protocol.ProtocolEncoder;
 import io.craft.atom.protocol.rpc.model.RpcMessage;
 import io.craft.atom.rpc.spi.RpcChannel;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -50,6 +53,14 @@ public class DefaultRpcChannel implements RpcChannel {
 	@Override
 	public void write(RpcMessage msg) throws RpcException {
 		try {
+			if (encoder instanceof ProtocolBufferEncoder && channel instanceof AbstractIoByteChannel) {
+				// write encoded buffers as one message without concatenation copy
+				ByteBuffer[] bufs = ((ProtocolBufferEncoder<RpcMessage>) encoder).encodeBuffers(msg);
+				LOG.debug("[CRAFT-ATOM-RPC] Rpc channel write buffers, |buffers={}, channel={}|", bufs, channel);
+				((AbstractIoByteChannel) channel).write(bufs);
+				return;
+			}
+			
 			byte[] bytes = encoder.encode(msg);
 			LOG.debug("[CRAFT-ATOM-RPC] Rpc channel write bytes, |length={}, bytes={}, channel={}|", bytes.length, bytes, channel);
 			channel.write(bytes);
@@ -1,5 +1,6 @@
 package io.craft.atom.rpc;
 import io.craft.atom.io.Channel;
+import io.craft.atom.io.ChannelEventType;
 import io.craft.atom.io.IoConnector;
 import io.craft.atom.io.IoHandler;
 import io.craft.atom.nio.NioOrderedDirectChannelEventDispatcher;
@@ -14,6 +15,7 @@ import io.craft.atom.util.thread.NamedThreadFactory;
 import java.io.IOException;
 import java.net.SocketAddress;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -68,6 +70,7 @@ public class DefaultRpcConnector implements RpcConnector {
 		ioConnector            = NioFactory.newTcpConnectorBuilder(ioHandler)
 						                   .connectTimeoutInMillis(connectTimeoutInMillis)
 						                   .dispatcher(new NioOrderedDirectChannelEventDispatcher())
+						                   .ignoredEventTypes(EnumSet.of(ChannelEventType.CHANNEL_FLUSH, ChannelEventType.CHANNEL_WRITTEN))
 						                   .build();
 	}
 	
@@ -82,7 +85,7 @@ public class DefaultRpcConnector implements RpcConnector {
 			Channel<byte[]> channel = future.get(connectTimeoutInMillis, TimeUnit.MILLISECONDS);
 			DefaultRpcChannel rpcChannel = new DefaultRpcChannel(channel, protocol.getRpcEncoder(), protocol.getRpcDecoder());
 			rpcChannel.setFutures(new ConcurrentHashMap<Long, RpcFuture<?>>());
-			channel.setAttribute(RpcIoHandler.RPC_CHANNEL, rpcChannel);
+			RpcIoHandler.setRpcChannel(channel, rpcChannel);
 			long id = channel.getId();
 			channels.put(id, rpcChannel);
 			LOG.debug("[CRAFT-ATOM-RPC] Rpc client connector established connection, |channel={}|.", rpcChannel);
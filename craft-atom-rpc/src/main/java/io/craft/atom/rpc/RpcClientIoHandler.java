@@ -33,7 +33,7 @@ public class RpcClientIoHandler extends RpcIoHandler {
 	
 	@Override
 	public void channelRead(Channel<byte[]> channel, byte[] bytes) {
-		DefaultRpcChannel rpcChannel = (DefaultRpcChannel) channel.getAttribute(RpcIoHandler.RPC_CHANNEL);
+		DefaultRpcChannel rpcChannel = RpcIoHandler.getRpcChannel(channel);
 		List<RpcMessage> rsps = rpcChannel.read(bytes);
 		for (RpcMessage rsp : rsps) {
 			rpcChannel.notifyRpcMessage(rsp);
@@ -55,7 +55,7 @@ public class RpcClientIoHandler extends RpcIoHandler {
 	}
 	
 	private void channelThrown0(Channel<byte[]> channel, Exception cause) {
-		DefaultRpcChannel rpcChannel = (DefaultRpcChannel) channel.getAttribute(RpcIoHandler.RPC_CHANNEL);
+		DefaultRpcChannel rpcChannel = RpcIoHandler.getRpcChannel(channel);
 		rpcChannel.notifyRpcException(cause);
 	}
 
@@ -1,5 +1,7 @@
 package io.craft.atom.rpc;
 
+import io.craft.atom.io.AbstractChannel;
+import io.craft.atom.io.AttributeKey;
 import io.craft.atom.io.Channel;
 import io.craft.atom.io.IoHandler;
 
@@ -10,7 +12,8 @@ import io.craft.atom.io.IoHandler;
 public abstract class RpcIoHandler implements IoHandler {
 
 	
-	static final String RPC_CHANNEL = "rpc.channel";
+	static final String                          RPC_CHANNEL     = "rpc.channel"                   ;
+	static final AttributeKey<DefaultRpcChannel> RPC_CHANNEL_KEY = AttributeKey.valueOf(RPC_CHANNEL);
 
 	
 	@Override
@@ -28,4 +31,26 @@ public abstract class RpcIoHandler implements IoHandler {
 	@Override
 	public void channelThrown(Channel<byte[]> channel, Exception cause) {}
 	
+	
+	// ~ ------------------------------------------------------------------------------------------------------------
+	
+	
+	/**
+	 * Typed attribute is an array load on channels derived from {@link AbstractChannel}, other channels fall back to the attribute map.
+	 */
+	static void setRpcChannel(Channel<byte[]> channel, DefaultRpcChannel rpcChannel) {
+		if (channel instanceof AbstractChannel) {
+			((AbstractChannel) channel).setAttribute(RPC_CHANNEL_KEY, rpcChannel);
+		} else {
+			channel.setAttribute(RPC_CHANNEL, rpcChannel);
+		}
+	}
+	
+	static DefaultRpcChannel getRpcChannel(Channel<byte[]> channel) {
+		if (channel instanceof AbstractChannel) {
+			return ((AbstractChannel) channel).getAttribute(RPC_CHANNEL_KEY);
+		}
+		return (DefaultRpcChannel) channel.getAttribute(RPC_CHANNEL);
+	}
+	
 }
@@ -39,12 +39,12 @@ public class RpcServerIoHandler extends RpcIoHandler {
 	@Override
 	public void channelOpened(Channel<byte[]> channel) {
 		DefaultRpcChannel rpcChannel = new DefaultRpcChannel(channel, protocol.getRpcEncoder(), protocol.getRpcDecoder());
-		channel.setAttribute(RpcIoHandler.RPC_CHANNEL, rpcChannel);
+		RpcIoHandler.setRpcChannel(channel, rpcChannel);
 	}
 
 	@Override
 	public void channelRead(Channel<byte[]> channel, byte[] bytes) {
-		DefaultRpcChannel rpcChannel = (DefaultRpcChannel) channel.getAttribute(RpcIoHandler.RPC_CHANNEL);
+		DefaultRpcChannel rpcChannel = RpcIoHandler.getRpcChannel(channel);
 		List<RpcMessage> reqs = rpcChannel.read(bytes);
 		for (RpcMessage req : reqs) {
 			req.setServerAddress((InetSocketAddress) channel.getLocalAddress());
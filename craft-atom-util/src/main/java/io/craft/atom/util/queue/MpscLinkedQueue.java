@@ -0,0 +1,208 @@
+package io.craft.atom.util.queue;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A lock-free unbounded multi-producer single-consumer queue based on linked nodes.
+ * <p>
+ * Any thread may offer elements, a producer does one atomic exchange to append a node and never retries.
+ * Only one thread may poll, peek, drain or clear at the same time, the consumer never does any CAS operation.
+ * If the consumer role is handed off between threads, the hand-off must be synchronized externally.
+ * <p>
+ * {@link #size()} is a constant time estimate for monitoring, it is the distance between sequence numbers of the tail and head node.
+ * A producer numbers its node after the tail it reads before the exchange, so producers share no counter and pay no extra atomic operation,
+ * racing producers may number their nodes from a stale tail and the estimate is off until those nodes are polled, it never drifts after the queue is drained.
+ * Use {@link #isEmpty()} to test for elements.
+ * Iterators are weakly consistent and do not support removal.
+ * <p>
+ * The algorithm is based on Dmitry Vyukov's <a href="http://www.1024cores.net/home/lock-free-algorithms/queues/non-intrusive-mpsc-node-based-queue">
+ * non-intrusive MPSC node based queue</a>.
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class MpscLinkedQueue<E> extends AbstractQueue<E> {
+
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<MpscLinkedQueue, Node> TAIL_UPDATER = AtomicReferenceFieldUpdater.newUpdater(MpscLinkedQueue.class, Node.class, "tail");
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<MpscLinkedQueue, Node> HEAD_UPDATER = AtomicReferenceFieldUpdater.newUpdater(MpscLinkedQueue.class, Node.class, "head");
+
+
+	private volatile Node<E> head;
+	private volatile Node<E> tail;
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	public MpscLinkedQueue() {
+		Node<E> stub = new Node<E>(null);
+		head = stub;
+		tail = stub;
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	@Override
+	public boolean offer(E e) {
+		if (e == null) {
+			throw new NullPointerException();
+		}
+
+		// the sequence is a plain write before the exchange publishes the node, racing producers may read the same tail.
+		Node<E> node = new Node<E>(e);
+		node.seq = tail.seq + 1;
+		Node<E> prev = getAndSetTail(node);
+
+		// the queue is temporarily broken until the previous node links to the new one, consumer waits for it.
+		prev.lazySetNext(node);
+		return true;
+	}
+
+	@Override
+	public E poll() {
+		Node<E> next = nextOfHead();
+		if (next == null) {
+			return null;
+		}
+
+		E e = next.value;
+		next.value = null;
+		HEAD_UPDATER.lazySet(this, next);
+		return e;
+	}
+
+	@Override
+	public E peek() {
+		Node<E> next = nextOfHead();
+		return (next == null ? null : next.value);
+	}
+
+	/**
+	 * Removes at most the given number of available elements from this queue and adds them to the given collection.
+	 * Only the consumer thread may invoke it.
+	 *
+	 * @param c           the collection to transfer elements into
+	 * @param maxElements the maximum number of elements to transfer
+	 * @return the number of elements transferred
+	 */
+	public int drainTo(Collection<? super E> c, int maxElements) {
+		if (c == null) {
+			throw new NullPointerException();
+		}
+		if (c == this) {
+			throw new IllegalArgumentException();
+		}
+
+		int n = 0;
+		for (; n < maxElements; n++) {
+			E e = poll();
+			if (e == null) {
+				break;
+			}
+			c.add(e);
+		}
+		return n;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return head == tail;
+	}
+
+	@Override
+	public int size() {
+		// head is read first, a node polled in between only lowers the estimate.
+		long h = head.seq;
+		long size = tail.seq - h;
+		if (size <= 0) {
+			return 0;
+		}
+		return (size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size);
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			private Node<E> node = advance(head);
+
+			@Override
+			public boolean hasNext() {
+				return node != null;
+			}
+
+			@Override
+			public E next() {
+				if (node == null) {
+					throw new NoSuchElementException();
+				}
+				E e = node.value;
+				node = advance(node);
+				return e;
+			}
+
+			private Node<E> advance(Node<E> node) {
+				// skip nodes polled concurrently
+				Node<E> next = node.next;
+				while (next != null && next.value == null) {
+					next = next.next;
+				}
+				return next;
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private Node<E> getAndSetTail(Node<E> node) {
+		return TAIL_UPDATER.getAndSet(this, node);
+	}
+
+	private Node<E> nextOfHead() {
+		Node<E> h = head;
+		Node<E> next = h.next;
+		if (next == null && h != tail) {
+			// a producer has swapped the tail but not linked it yet, it is about to happen.
+			while ((next = h.next) == null) {
+				Thread.yield();
+			}
+		}
+		return next;
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private static class Node<E> {
+
+		@SuppressWarnings("rawtypes")
+		private static final AtomicReferenceFieldUpdater<Node, Node> NEXT_UPDATER = AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+		private volatile Node<E> next ;
+		private          E       value;
+		private          long    seq  ;
+
+		Node(E value) {
+			this.value = value;
+		}
+
+		void lazySetNext(Node<E> next) {
+			NEXT_UPDATER.lazySet(this, next);
+		}
+
+	}
+
+}
@@ -0,0 +1,103 @@
+package io.craft.atom.util.schedule;
+
+import io.craft.atom.util.thread.NamedThreadFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import lombok.ToString;
+
+/**
+ * A coarse clock caches current time in milliseconds, a background ticker updates it at a fixed resolution.
+ * <p>
+ * Reading the clock is just a volatile read, it is much cheaper than {@link System#currentTimeMillis()} on hot paths,
+ * and the time may lag behind the real time at most one resolution.
+ * Clocks are shared by resolution, each resolution has one daemon ticker thread, so don't use too many different resolutions.
+ * <p>
+ * <b>The classic usage as follows:</b><br>
+ * <pre>
+ *    // Get a shared clock with 10 milliseconds resolution
+ *    CoarseClock clock = CoarseClock.get(10);
+ *
+ *    // Read the cached time
+ *    long now = clock.currentTimeMillis();
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+@ToString(of = { "resolution", "now" })
+public class CoarseClock {
+
+
+	private static final ConcurrentMap<Long, CoarseClock> CLOCKS = new ConcurrentHashMap<Long, CoarseClock>();
+
+
+	private final    long resolution                             ;
+	private volatile long now        = System.currentTimeMillis();
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	private CoarseClock(long resolution) {
+		this.resolution = resolution;
+	}
+
+
+	// ~ -------------------------------------------------------------------------------------------------------------
+
+
+	/**
+	 * Get the shared clock of the resolution, the ticker of the clock is started once it is created.
+	 *
+	 * @param resolutionInMillis
+	 * @return the shared clock.
+	 */
+	public static CoarseClock get(long resolutionInMillis) {
+		if (resolutionInMillis <= 0) {
+			throw new IllegalArgumentException("resolutionInMillis must > 0");
+		}
+
+		CoarseClock clock = CLOCKS.get(resolutionInMillis);
+		if (clock != null) {
+			return clock;
+		}
+
+		CoarseClock newClock = new CoarseClock(resolutionInMillis);
+		clock = CLOCKS.putIfAbsent(resolutionInMillis, newClock);
+		if (clock == null) {
+			clock = newClock;
+			clock.start();
+		}
+		return clock;
+	}
+
+	private void start() {
+		ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("craft-atom-coarse-clock-" + resolution, true));
+		ticker.scheduleAtFixedRate(new Runnable() {
+			@Override
+			public void run() {
+				now = System.currentTimeMillis();
+			}
+		}, resolution, resolution, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @return the cached current time in milliseconds.
+	 */
+	public long currentTimeMillis() {
+		return now;
+	}
+
+	/**
+	 * @return resolution of the clock in milliseconds.
+	 */
+	public long resolution() {
+		return resolution;
+	}
+
+}
@@ -0,0 +1,104 @@
+package io.craft.atom.util.queue;
+
+import io.craft.atom.test.CaseCounter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MpscLinkedQueue}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestMpscLinkedQueue {
+
+
+	@Test
+	public void testBasic() {
+		MpscLinkedQueue<Integer> q = new MpscLinkedQueue<Integer>();
+		Assert.assertTrue(q.isEmpty());
+		Assert.assertNull(q.poll());
+		Assert.assertNull(q.peek());
+
+		for (int i = 0; i < 10; i++) {
+			q.offer(i);
+		}
+		Assert.assertFalse(q.isEmpty());
+		Assert.assertEquals(10, q.size());
+		Assert.assertEquals(Integer.valueOf(0), q.peek());
+		Assert.assertEquals(Integer.valueOf(0), q.poll());
+		Assert.assertEquals(9, q.size());
+
+		Iterator<Integer> it = q.iterator();
+		for (int i = 1; i < 10; i++) {
+			Assert.assertEquals(Integer.valueOf(i), it.next());
+		}
+		Assert.assertFalse(it.hasNext());
+
+		List<Integer> list = new ArrayList<Integer>();
+		Assert.assertEquals(5, q.drainTo(list, 5));
+		Assert.assertEquals(Integer.valueOf(5), list.get(4));
+		Assert.assertEquals(4, q.size());
+		q.clear();
+		Assert.assertTrue(q.isEmpty());
+		Assert.assertEquals(0, q.size());
+		System.out.println(String.format("[CRAFT-ATOM-UTIL] (^_^)  <%s>  Case -> test mpsc linked queue basic. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testMultiProducer() throws Exception {
+		final int producers = 4;
+		final int count = 100000;
+		final MpscLinkedQueue<long[]> q = new MpscLinkedQueue<long[]>();
+		final CountDownLatch latch = new CountDownLatch(1);
+		for (int p = 0; p < producers; p++) {
+			final int id = p;
+			new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						latch.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					for (int i = 0; i < count; i++) {
+						q.offer(new long[] { id, i });
+					}
+				}
+			}).start();
+		}
+
+		latch.countDown();
+		long[] last = new long[producers];
+		for (int p = 0; p < producers; p++) {
+			last[p] = -1;
+		}
+		for (int n = 0; n < producers * count;) {
+			long[] e = q.poll();
+			if (e == null) {
+				Thread.yield();
+				continue;
+			}
+
+			// elements of the same producer keep fifo order
+			Assert.assertEquals(last[(int) e[0]] + 1, e[1]);
+			last[(int) e[0]] = e[1];
+			n++;
+		}
+		Assert.assertTrue(q.isEmpty());
+		Assert.assertNull(q.poll());
+
+		// size estimate is exact again once the racing offers are drained
+		Assert.assertEquals(0, q.size());
+		q.offer(new long[] { 0, 0 });
+		Assert.assertEquals(1, q.size());
+		System.out.println(String.format("[CRAFT-ATOM-UTIL] (^_^)  <%s>  Case -> test mpsc linked queue multi producer. ", CaseCounter.incr(1)));
+	}
+
+}
@@ -0,0 +1,43 @@
+package io.craft.atom.util.schedule;
+
+import io.craft.atom.test.CaseCounter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CoarseClock}
+ *
+ * @author agent
+ * @version 1.0, Oct 18, 2026
+ */
+public class TestCoarseClock {
+
+
+	@Test
+	public void testClock() throws Exception {
+		CoarseClock clock = CoarseClock.get(10);
+		Assert.assertSame(clock, CoarseClock.get(10));
+		Assert.assertEquals(10, clock.resolution());
+
+		long start = clock.currentTimeMillis();
+		Thread.sleep(100);
+		long now = clock.currentTimeMillis();
+		Assert.assertTrue(now > start);
+		// the clock lags at most a resolution behind, the bound leaves generous slack for a loaded machine.
+		Assert.assertTrue(System.currentTimeMillis() - now < 10 * clock.resolution() + 100);
+		System.out.println(String.format("[CRAFT-ATOM-UTIL] (^_^)  <%s>  Case -> test coarse clock. ", CaseCounter.incr(1)));
+	}
+
+	@Test
+	public void testIllegalResolution() {
+		try {
+			CoarseClock.get(0);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			Assert.assertTrue(true);
+		}
+		System.out.println(String.format("[CRAFT-ATOM-UTIL] (^_^)  <%s>  Case -> test coarse clock illegal resolution. ", CaseCounter.incr(1)));
+	}
+
+}